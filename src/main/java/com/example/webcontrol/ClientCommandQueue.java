@@ -0,0 +1,127 @@
+package com.example.webcontrol;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.sound.SoundCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Mutating API calls are applied on the client thread, once per tick.
+ *
+ * Settings (FOV, render distance, brightness, volume) have one pending slot each: a newer value
+ * replaces the pending one, so dragging a slider applies only the last value of every tick.
+ * One-shot actions (F3, fullscreen, screenshot, pause) go through a bounded queue and run in
+ * order. HTTP threads only enqueue and answer right away; nothing touches MinecraftClient there.
+ */
+public final class ClientCommandQueue {
+    private static final Logger LOGGER = LoggerFactory.getLogger("webcontrol-commands");
+
+    private static final int ACTION_CAPACITY = 32;
+
+    public enum Setting {
+        FOV, RENDER_DISTANCE, BRIGHTNESS, VOLUME
+    }
+
+    public enum Action {
+        TOGGLE_F3, TOGGLE_FULLSCREEN, SCREENSHOT, PAUSE
+    }
+
+    private static final Setting[] SETTINGS = Setting.values();
+
+    // Последнее значение каждой настройки, null = нечего применять
+    private static final AtomicReferenceArray<Double> pendingSettings = new AtomicReferenceArray<>(SETTINGS.length);
+    private static final ArrayBlockingQueue<Action> actions = new ArrayBlockingQueue<>(ACTION_CAPACITY);
+
+    private static final AtomicLong accepted = new AtomicLong();
+    private static final AtomicLong coalesced = new AtomicLong();
+    private static final AtomicLong rejected = new AtomicLong();
+
+    private ClientCommandQueue() {}
+
+    public static void initialize() {
+        ClientTickEvents.END_CLIENT_TICK.register(ClientCommandQueue::drain);
+    }
+
+    /**
+     * Last write wins: a value still pending from an earlier request is replaced
+     */
+    public static void submit(Setting setting, double value) {
+        accepted.incrementAndGet();
+        if (pendingSettings.getAndSet(setting.ordinal(), value) != null) {
+            coalesced.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return false if the action queue is full
+     */
+    public static boolean submit(Action action) {
+        if (!actions.offer(action)) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        accepted.incrementAndGet();
+        return true;
+    }
+
+    private static void drain(MinecraftClient client) {
+        for (Setting setting : SETTINGS) {
+            Double value = pendingSettings.getAndSet(setting.ordinal(), null);
+            if (value != null) {
+                try {
+                    apply(client, setting, value);
+                } catch (Exception e) {
+                    LOGGER.error("Failed to apply " + setting + "=" + value + ": " + e.getMessage());
+                }
+            }
+        }
+
+        Action action;
+        while ((action = actions.poll()) != null) {
+            try {
+                run(client, action);
+            } catch (Exception e) {
+                LOGGER.error("Failed to run " + action + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static void apply(MinecraftClient client, Setting setting, double value) {
+        switch (setting) {
+            case FOV -> client.options.getFov().setValue((int) value);
+            case RENDER_DISTANCE -> client.options.getViewDistance().setValue((int) value);
+            case BRIGHTNESS -> client.options.getGamma().setValue(value);
+            case VOLUME -> client.options.getSoundVolumeOption(SoundCategory.MASTER).setValue(value);
+        }
+    }
+
+    private static void run(MinecraftClient client, Action action) {
+        switch (action) {
+            case TOGGLE_F3 -> client.getDebugHud().toggleDebugHud();
+            case TOGGLE_FULLSCREEN -> client.getWindow().toggleFullscreen();
+            case SCREENSHOT -> net.minecraft.client.util.ScreenshotRecorder.saveScreenshot(
+                client.runDirectory,
+                client.getFramebuffer(),
+                (text) -> {
+                    // Screenshot callback - could be used to show notification
+                }
+            );
+            case PAUSE -> {
+                if (client.world != null && client.isInSingleplayer()) {
+                    client.setScreen(new net.minecraft.client.gui.screen.GameMenuScreen(true));
+                } else {
+                    LOGGER.info("Pause ignored: not in singleplayer");
+                }
+            }
+        }
+    }
+
+    public static long getAccepted() { return accepted.get(); }
+    public static long getCoalesced() { return coalesced.get(); }
+    public static long getRejected() { return rejected.get(); }
+}
@@ -0,0 +1,138 @@
+package com.example.webcontrol;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Game state for the read-only API endpoints, published once per client tick.
+ *
+ * HTTP threads never touch MinecraftClient, the world or the options: END_CLIENT_TICK fills one
+ * of two reusable buffers and publishes it with a volatile write, readers copy the published
+ * buffer into an immutable Values. Each buffer carries a sequence number (odd while it is being
+ * written); a reader that overlapped a write - only possible if it stalled for a whole tick -
+ * simply retries. The biome lookup only runs when the block position or the world changed.
+ */
+final class GameStateSnapshot {
+
+    /**
+     * Consistent copy handed to the endpoints
+     */
+    record Values(long tick, boolean inGame, boolean inWorld, int blockX, int blockY, int blockZ,
+                  String biome, long timeOfDay, int fps, int fov, int renderDistance,
+                  boolean visualRangeEnabled, double visualRange, String[] playersInRange) {}
+
+    private static final class Buffer {
+        volatile int seq; // odd = write in progress
+
+        long tick;
+        boolean inGame;
+        boolean inWorld;
+        int blockX;
+        int blockY;
+        int blockZ;
+        String biome;
+        long timeOfDay;
+        int fps;
+        int fov;
+        int renderDistance;
+        boolean visualRangeEnabled;
+        double visualRange;
+        String[] playersInRange;
+    }
+
+    private static final Buffer[] buffers = { new Buffer(), new Buffer() };
+    private static volatile Buffer published = buffers[0];
+
+    // Client thread only
+    private static long tick = 0;
+    private static ClientWorld biomeWorld;
+    private static BlockPos biomePos;
+    private static String biome = "Unknown";
+
+    private GameStateSnapshot() {}
+
+    static {
+        for (Buffer buffer : buffers) {
+            buffer.biome = "Unknown";
+            buffer.playersInRange = new String[0];
+        }
+    }
+
+    /**
+     * Register before other END_CLIENT_TICK consumers (StatsStreamHub) so they see this tick's values
+     */
+    static void initialize() {
+        ClientTickEvents.END_CLIENT_TICK.register(GameStateSnapshot::capture);
+    }
+
+    private static void capture(MinecraftClient client) {
+        Buffer target = published == buffers[0] ? buffers[1] : buffers[0];
+
+        target.seq++; // odd: readers of this buffer retry
+        VarHandle.storeStoreFence(); // the odd seq is visible before any field changes
+        try {
+            target.tick = ++tick;
+            target.inGame = client.player != null;
+            target.inWorld = target.inGame && client.world != null;
+            if (target.inGame) {
+                BlockPos pos = client.player.getBlockPos();
+                target.blockX = pos.getX();
+                target.blockY = pos.getY();
+                target.blockZ = pos.getZ();
+                if (target.inWorld) {
+                    target.biome = biomeAt(client.world, pos);
+                    target.timeOfDay = client.world.getTimeOfDay();
+                }
+            }
+            target.fps = client.getCurrentFps();
+            target.fov = client.options.getFov().getValue();
+            target.renderDistance = client.options.getViewDistance().getValue();
+            target.visualRangeEnabled = VisualRangeManager.isEnabled();
+            target.visualRange = VisualRangeManager.getRange();
+            target.playersInRange = VisualRangeManager.getPlayersInRangeSnapshot();
+        } finally {
+            target.seq++; // even again
+        }
+        published = target;
+    }
+
+    /**
+     * Biome lookups are costly - only repeated when the player changed block or world
+     */
+    private static String biomeAt(ClientWorld world, BlockPos pos) {
+        if (world != biomeWorld || !pos.equals(biomePos)) {
+            biomeWorld = world;
+            biomePos = pos.toImmutable();
+            biome = world.getBiome(pos).getKey().map(key -> key.getValue().getPath()).orElse("Unknown");
+        }
+        return biome;
+    }
+
+    /**
+     * Lock-free read from any thread
+     */
+    static Values read() {
+        while (true) {
+            Buffer buffer = published;
+            int seq = buffer.seq;
+            if ((seq & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            Values values = new Values(buffer.tick, buffer.inGame, buffer.inWorld,
+                buffer.blockX, buffer.blockY, buffer.blockZ, buffer.biome, buffer.timeOfDay,
+                buffer.fps, buffer.fov, buffer.renderDistance,
+                buffer.visualRangeEnabled, buffer.visualRange, buffer.playersInRange);
+
+            VarHandle.acquireFence(); // field reads above happen before the re-check
+            if (buffer.seq == seq) {
+                return values;
+            }
+        }
+    }
+}
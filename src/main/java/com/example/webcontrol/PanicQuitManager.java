@@ -1,5 +1,8 @@
 package com.example.webcontrol;
 
+import com.example.webcontrol.spoof.CoordSpoofManager;
+import com.example.webcontrol.spoof.SpoofState;
+import com.example.webcontrol.spoof.TrueRusherHackSpoofer;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.minecraft.client.MinecraftClient;
@@ -13,7 +16,7 @@ import org.slf4j.LoggerFactory;
 
 public class PanicQuitManager {
     private static final Logger LOGGER = LoggerFactory.getLogger("webcontrol-panic");
-    private static boolean realCoordsShown = false;
+    private static volatile boolean realCoordsShown = false;
     private static KeyBinding panicQuitKey;
     private static long lastKeyPressTime = 0;
     private static final long KEY_PRESS_COOLDOWN = 1000; // 1 second cooldown
@@ -29,6 +32,9 @@ public class PanicQuitManager {
             InputUtil.UNKNOWN_KEY.getCode(), // No default key, we'll handle combination manually
             "category.webcontrol"
         ));
+
+        // Leak status only changes with the spoof state - re-evaluated on change, not every frame
+        TrueRusherHackSpoofer.addListener(PanicQuitManager::onSpoofStateChanged);
         
         // Register client tick event to check for key combination and world join
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
@@ -104,27 +110,40 @@ public class PanicQuitManager {
         }
     }
     
-    private static void checkRealCoordinates() {
-        // Check if real coordinates are being shown based on the modern CoordSpoofManager system
-        // Real coordinates are shown when:
-        // 1. Spoofing mode is set to VANILLA (no spoofing)
-        // 2. AND text replacement mode is not active (which would hide coordinates completely)
+    /**
+     * Called by TrueRusherHackSpoofer on whatever thread published the change.
+     * Only a change of the leak status is handed over to the client thread.
+     */
+    private static void onSpoofStateChanged(SpoofState previous, SpoofState next) {
+        if (showsRealCoords(previous) == showsRealCoords(next)) {
+            return; // offset moved, coordinates stay hidden (or stay real)
+        }
+        MinecraftClient.getInstance().execute(PanicQuitManager::updateRealCoordsStatus);
+    }
 
-        com.example.webcontrol.spoof.CoordSpoofManager.SpoofMode currentMode =
-            com.example.webcontrol.spoof.CoordSpoofManager.getCurrentMode();
+    /**
+     * Real coordinates are shown when spoofing is disabled (VANILLA mode) or the offset is zero
+     * on X and Z with no zones - spoofing is on, but the numbers are the real ones
+     */
+    private static boolean showsRealCoords(SpoofState state) {
+        if (!state.isActive()) {
+            return true;
+        }
+        return state.offsetX() == 0 && state.offsetZ() == 0 && !state.hasZones();
+    }
 
-        boolean textReplacementActive = com.example.webcontrol.spoof.CoordSpoofManager.shouldUseTextReplacement();
+    private static void checkRealCoordinates() {
+        // Text replacement mode would hide coordinates completely
+        SpoofState state = TrueRusherHackSpoofer.getState();
+        boolean textReplacementActive = CoordSpoofManager.shouldUseTextReplacement();
 
-        // Real coordinates are shown if spoofing is disabled (VANILLA mode)
-        // and text replacement is not hiding the coordinates
         boolean previousStatus = realCoordsShown;
-        realCoordsShown = (currentMode == com.example.webcontrol.spoof.CoordSpoofManager.SpoofMode.VANILLA)
-                         && !textReplacementActive;
+        realCoordsShown = showsRealCoords(state) && !textReplacementActive;
 
         // Log coordinate status changes for debugging
         if (previousStatus != realCoordsShown) {
             LOGGER.info("Coordinate status changed: realCoordsShown={}, spoofMode={}, textReplacement={}",
-                       realCoordsShown, currentMode, textReplacementActive);
+                       realCoordsShown, state.mode(), textReplacementActive);
         }
     }
     
@@ -164,13 +183,19 @@ public class PanicQuitManager {
         return realCoordsShown;
     }
     
+    /**
+     * Re-evaluate the leak status and disconnect if real coordinates just became visible.
+     * Runs on the client thread, scheduled by onSpoofStateChanged
+     */
     public static void updateRealCoordsStatus() {
         if (isPanicQuitEnabled()) {
             boolean previousStatus = realCoordsShown;
             checkRealCoordinates();
 
             // If real coordinates just became visible, trigger panic quit
-            if (!previousStatus && realCoordsShown) {
+            // (not in menus: the HUD only showed coordinates in a world, onPlayerJoinWorld covers joining)
+            MinecraftClient client = MinecraftClient.getInstance();
+            if (!previousStatus && realCoordsShown && client.player != null) {
                 LOGGER.warn("Real coordinates just became visible - triggering panic quit!");
                 performPanicQuit();
             }
@@ -179,6 +204,9 @@ public class PanicQuitManager {
     
     public static void setPanicQuitEnabled(boolean enabled) {
         WebControlConfig.getInstance().updatePanicQuit(enabled);
+        if (enabled) {
+            MinecraftClient.getInstance().execute(PanicQuitManager::updateRealCoordsStatus);
+        }
     }
 
     /**
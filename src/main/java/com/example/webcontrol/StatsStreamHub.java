@@ -0,0 +1,150 @@
+package com.example.webcontrol;
+
+import com.sun.net.httpserver.HttpExchange;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.MinecraftClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events fan-out for /api/stream.
+ *
+ * One stats snapshot is built on the client thread every N ticks (only while someone is
+ * subscribed), serialized once into an SSE frame and the same byte[] is queued for every
+ * subscriber. Each subscriber has a small bounded queue drained by its own virtual thread;
+ * a slow browser loses its oldest frames instead of holding up the others or the client tick.
+ * Identical snapshots are not sent again, a comment line keeps idle streams open.
+ */
+public class StatsStreamHub {
+    private static final Logger LOGGER = LoggerFactory.getLogger("webcontrol-stream");
+
+    private static final int QUEUE_CAPACITY = 8;
+    private static final long HEARTBEAT_SECONDS = 15;
+    private static final byte[] HEARTBEAT = ": ping\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_PREFIX = "data: ".getBytes(StandardCharsets.UTF_8);
+
+    private static final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger subscriberIds = new AtomicInteger();
+    private static final AtomicLong droppedFrames = new AtomicLong();
+
+    private static int intervalTicks = 1;
+    private static int tickCounter = 0;
+    private static byte[] lastPayload; // client thread only
+
+    /**
+     * One connected EventSource: frames are offered by the client thread, written by the subscriber thread
+     */
+    private static final class Subscriber {
+        final int id = subscriberIds.incrementAndGet();
+        final HttpExchange exchange;
+        final ArrayBlockingQueue<byte[]> frames = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        Subscriber(HttpExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        void offer(byte[] frame) {
+            // Drop oldest: the newest snapshot is the only one that matters
+            while (!frames.offer(frame)) {
+                if (frames.poll() != null) {
+                    droppedFrames.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public static void initialize(int ticksPerSnapshot) {
+        intervalTicks = Math.max(1, ticksPerSnapshot);
+
+        ClientTickEvents.END_CLIENT_TICK.register(client -> {
+            if (subscribers.isEmpty() || ++tickCounter < intervalTicks) {
+                return;
+            }
+            tickCounter = 0;
+            publish();
+        });
+
+        LOGGER.info("Stats stream initialized (snapshot every " + intervalTicks + " ticks)");
+    }
+
+    private static void publish() {
+        try {
+            // GameStateSnapshot is registered first, so this is the current tick's snapshot
+            byte[] payload = WebControlHandler.buildGameStats(GameStateSnapshot.read()).toString().getBytes(StandardCharsets.UTF_8);
+            if (Arrays.equals(payload, lastPayload)) {
+                return; // nothing changed since the last frame
+            }
+            lastPayload = payload;
+
+            byte[] frame = toFrame(payload);
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(frame);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to publish stats snapshot: " + e.getMessage());
+        }
+    }
+
+    private static byte[] toFrame(byte[] payload) {
+        byte[] frame = new byte[DATA_PREFIX.length + payload.length + 2];
+        System.arraycopy(DATA_PREFIX, 0, frame, 0, DATA_PREFIX.length);
+        System.arraycopy(payload, 0, frame, DATA_PREFIX.length, payload.length);
+        frame[frame.length - 2] = '\n';
+        frame[frame.length - 1] = '\n';
+        return frame;
+    }
+
+    /**
+     * Called from the HTTP handler: sends the SSE headers and hands the exchange to a
+     * dedicated virtual thread, so the request slot of WebServerExecutor is freed right away
+     */
+    public static void subscribe(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+        exchange.sendResponseHeaders(200, 0); // chunked, open until the browser goes away
+
+        Subscriber subscriber = new Subscriber(exchange);
+        // Новый подписчик сразу получает последний снимок, не дожидаясь изменений
+        MinecraftClient.getInstance().execute(() -> lastPayload = null);
+        subscribers.add(subscriber);
+        Thread.ofVirtual().name("webcontrol-stream-" + subscriber.id).start(() -> drain(subscriber));
+        LOGGER.info("Stream subscriber " + subscriber.id + " connected (" + subscribers.size() + " total)");
+    }
+
+    private static void drain(Subscriber subscriber) {
+        try (OutputStream os = subscriber.exchange.getResponseBody()) {
+            while (true) {
+                byte[] frame = subscriber.frames.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+                os.write(frame != null ? frame : HEARTBEAT);
+                os.flush();
+            }
+        } catch (IOException e) {
+            // Browser closed the stream
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            subscribers.remove(subscriber);
+            subscriber.exchange.close();
+            LOGGER.info("Stream subscriber " + subscriber.id + " disconnected (" + subscribers.size() + " left)");
+        }
+    }
+
+    public static int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public static long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+}
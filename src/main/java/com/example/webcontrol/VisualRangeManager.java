@@ -16,6 +16,8 @@ public class VisualRangeManager {
     private static boolean enabled = false;
     private static double range = 100.0; // Default range in blocks
     private static final Set<String> playersInRange = new HashSet<>();
+    // Immutable copy for other threads, replaced only when the set changes
+    private static volatile String[] playersInRangeSnapshot = new String[0];
     private static long lastCheckTime = 0;
     private static final long CHECK_INTERVAL = 1000; // Check every 1 second
     
@@ -75,6 +77,9 @@ public class VisualRangeManager {
         }
         
         // Update the tracked players
+        if (!playersInRange.equals(currentPlayersInRange)) {
+            playersInRangeSnapshot = currentPlayersInRange.toArray(new String[0]);
+        }
         playersInRange.clear();
         playersInRange.addAll(currentPlayersInRange);
     }
@@ -110,6 +115,7 @@ public class VisualRangeManager {
         } else {
             LOGGER.info("Visual Range disabled");
             playersInRange.clear(); // Clear tracked players when disabled
+            playersInRangeSnapshot = new String[0];
             MinecraftClient client = MinecraftClient.getInstance();
             if (client.player != null) {
                 client.player.sendMessage(Text.literal("§5Visual Range §7disabled §c[-]"), false);
@@ -136,6 +142,13 @@ public class VisualRangeManager {
         return new HashSet<>(playersInRange);
     }
     
+    /**
+     * Players in range as of the last check, safe to read from any thread (GameStateSnapshot)
+     */
+    public static String[] getPlayersInRangeSnapshot() {
+        return playersInRangeSnapshot;
+    }
+
     public static int getPlayerCount() {
         return playersInRange.size();
     }
@@ -1,6 +1,7 @@
 package com.example.webcontrol;
 
 import com.example.webcontrol.keybinds.KeybindManager;
+import com.example.webcontrol.spoof.CoordinateTransforms;
 import com.example.webcontrol.spoof.TrueRusherHackSpoofer;
 import com.sun.net.httpserver.HttpServer;
 import net.fabricmc.api.ClientModInitializer;
@@ -23,6 +24,7 @@ import java.util.HashMap;
 public class WebControlClientMod implements ClientModInitializer {
     private static final Logger LOGGER = LoggerFactory.getLogger("webcontrol");
     private static HttpServer webServer;
+    private static WebServerExecutor webExecutor;
 
     @Override
     public void onInitializeClient() {
@@ -36,27 +38,21 @@ public class WebControlClientMod implements ClientModInitializer {
         KeybindManager.initialize();
 
         // Initialize web interface
-        startWebServer();
+        startWebServer(config);
 
         // Initialize feature systems
         PanicQuitManager.initialize();
         VisualRangeManager.initialize();
+        ClientCommandQueue.initialize(); // first: queued API commands are visible in this tick's snapshot
+        GameStateSnapshot.initialize(); // before StatsStreamHub: both run at END_CLIENT_TICK
+        StatsStreamHub.initialize(config.getStatsStreamIntervalTicks());
 
-        // Set up coordinate spoofing with simple offset logic
+        // Coordinate spoofing: mode/offset come from the config (default OFFSET 100/0/100)
         // OFFSET mode: server->client subtract, client->server add
         // Example: offset=100 means server coords 150,150 → client sees 50,50
-        TrueRusherHackSpoofer.setMode(TrueRusherHackSpoofer.SpoofMode.OFFSET);
-        TrueRusherHackSpoofer.setOffset(100, 0, 100); // X offset=100, Z offset=100
-        LOGGER.info("=== TRUE RUSHERHACK SPOOFER INITIALIZED ===");
-        LOGGER.info("LITERALLY modifies packet fields like original RusherHack");
-        LOGGER.info("Receive: coordinates - offset, Send: coordinates + offset");
-
         LOGGER.info("=== COORDINATE SPOOFING INITIALIZED ===");
-        LOGGER.info("Mode: OFFSET (like RusherHack plugin)");
-        LOGGER.info("Logic: incoming coordinates -100, outgoing coordinates +100");
-        LOGGER.info("Expected: F3 shows coordinates 100 less than real position");
-        LOGGER.info("Expected: Movement works without teleportation");
-        LOGGER.info("=== SIMPLE APPROACH: Only essential packets ===");
+        LOGGER.info("Engine: " + CoordinateTransforms.active().name());
+        LOGGER.info("Receive: coordinates - offset, Send: coordinates + offset");
 
         // Apply saved settings from config
         applySavedSettings(config);
@@ -65,13 +61,16 @@ public class WebControlClientMod implements ClientModInitializer {
         LOGGER.info("WebControl Mod initialization complete with enhanced features");
     }
 
-    private static void startWebServer() {
+    private static void startWebServer(WebControlConfig config) {
         try {
             webServer = HttpServer.create(new InetSocketAddress("0.0.0.0", 8080), 0);
             webServer.createContext("/", new WebControlHandler());
-            webServer.setExecutor(null);
+            // Virtual thread per request instead of the single dispatcher thread
+            webExecutor = new WebServerExecutor(config.getWebMaxConcurrentRequests());
+            webServer.setExecutor(webExecutor);
             webServer.start();
-            LOGGER.info("Web interface started at http://localhost:8080");
+            LOGGER.info("Web interface started at http://localhost:8080 (max " +
+                webExecutor.getMaxConcurrent() + " concurrent requests)");
         } catch (IOException e) {
             LOGGER.error("Failed to start web interface: " + e.getMessage());
         }
@@ -80,8 +79,9 @@ public class WebControlClientMod implements ClientModInitializer {
     private static void applySavedSettings(WebControlConfig config) {
         try {
             // Apply coordinate spoofing settings
-            com.example.webcontrol.spoof.CoordSpoofManager.SpoofMode mode = 
-                com.example.webcontrol.spoof.CoordSpoofManager.SpoofMode.valueOf(config.getSpoofMode());
+            TrueRusherHackSpoofer.SpoofMode mode =
+                TrueRusherHackSpoofer.SpoofMode.valueOf(config.getSpoofMode());
+            com.example.webcontrol.spoof.CoordSpoofManager.setChunkAligned(config.isChunkAlignedOffset());
             com.example.webcontrol.spoof.CoordSpoofManager.setMode(mode);
             com.example.webcontrol.spoof.CoordSpoofManager.setOffset(config.getOffsetX(), config.getOffsetY(), config.getOffsetZ());
             com.example.webcontrol.spoof.CoordSpoofManager.setAnimateCoords(config.isAnimateCoords());
@@ -91,6 +91,14 @@ public class WebControlClientMod implements ClientModInitializer {
             com.example.webcontrol.spoof.CoordSpoofManager.setRapidHudMode(config.isRapidHudMode());
             com.example.webcontrol.spoof.CoordSpoofManager.setTextReplaceMode(config.isTextReplaceMode());
             com.example.webcontrol.spoof.CoordSpoofManager.setReplacementText(config.getReplacementText());
+            try {
+                com.example.webcontrol.spoof.CoordSpoofManager.setZones(config.getOffsetZones());
+            } catch (IllegalStateException e) {
+                // Zones need RENDER mode without chunk alignment, mode and alignment were applied first
+                LOGGER.warn("Offset zones are ignored: " + e.getMessage());
+            }
+            com.example.webcontrol.spoof.PacketTrace.configure(
+                com.example.webcontrol.spoof.PacketTrace.parseLevel(config.getPacketTraceLevel()), config.getPacketTraceSampleRate());
             
             LOGGER.info("Applied saved coordinate spoofing settings");
         } catch (Exception e) {
@@ -98,6 +106,13 @@ public class WebControlClientMod implements ClientModInitializer {
         }
     }
 
+    /**
+     * Executor of the running web server, null if it failed to start
+     */
+    public static WebServerExecutor getWebExecutor() {
+        return webExecutor;
+    }
+
     public static void joinServer(String address) {
         MinecraftClient client = MinecraftClient.getInstance();
         ServerInfo serverInfo = new ServerInfo("Server", address, ServerType.OTHER);
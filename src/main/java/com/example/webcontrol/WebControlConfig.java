@@ -1,13 +1,18 @@
 package com.example.webcontrol;
 
+import com.example.webcontrol.spoof.OffsetZone;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import net.minecraft.client.MinecraftClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import java.io.File;
@@ -20,6 +25,10 @@ public class WebControlConfig {
     private static final String CONFIG_FILE_NAME = "webcontrol.json";
     private static WebControlConfig instance;
     private static File configFile;
+
+    // Batch API: save() calls only mark the config dirty until the batch ends (guarded by this)
+    private int deferredSaveDepth = 0;
+    private boolean savePending = false;
     
     // Panic Quit Settings
     public boolean panicQuitEnabled = false;
@@ -31,6 +40,8 @@ public class WebControlConfig {
     // Performance Settings
     public boolean performanceMonitoringEnabled = false;
     public int webServerPort = 8080;
+    public int webMaxConcurrentRequests = 16; // handlers running at once, applied on restart
+    public int statsStreamIntervalTicks = 1;  // /api/stream snapshot every N client ticks
     public boolean autoSaveEnabled = true;
     public int autoSaveInterval = 30; // seconds
 
@@ -71,10 +82,10 @@ public class WebControlConfig {
     public boolean notifyOnLowHunger = true;
     
     // Coordinate Spoofing Settings
-    public String spoofMode = "VANILLA";
-    public double offsetX = 0.0;
+    public String spoofMode = "OFFSET";
+    public double offsetX = 100.0;
     public double offsetY = 0.0;
-    public double offsetZ = 0.0;
+    public double offsetZ = 100.0;
     public boolean animateCoords = false;
     public boolean obscureRotations = false;
     public String spoofedBiome = "";
@@ -83,6 +94,12 @@ public class WebControlConfig {
     public boolean rapidHudMode = false;
     public boolean textReplaceMode = false;
     public String replacementText = "";
+    public String spoofEngine = "reflective"; // reflective, typed, netty - applied on restart
+    public boolean chunkAlignedOffset = false;
+    public boolean skipHooksWhenDisabled = true; // read by WebControlMixinPlugin at launch
+    public String packetTraceLevel = "OFF"; // OFF, PACKETS, FIELDS
+    public int packetTraceSampleRate = 1;   // keep 1 of every N packets
+    public List<OffsetZone> offsetZones = new ArrayList<>(); // first matching zone wins
     
     // Display Settings
     public boolean showCoordinates = true;
@@ -246,6 +263,40 @@ public class WebControlConfig {
             if (json.has("replacementText")) {
                 replacementText = json.get("replacementText").getAsString();
             }
+            if (json.has("spoofEngine")) {
+                spoofEngine = json.get("spoofEngine").getAsString();
+            } else if (json.has("nettyRewriteEnabled") && json.get("nettyRewriteEnabled").getAsBoolean()) {
+                // Legacy flag from before engines were selectable
+                spoofEngine = "netty";
+            }
+            if (json.has("skipHooksWhenDisabled")) {
+                skipHooksWhenDisabled = json.get("skipHooksWhenDisabled").getAsBoolean();
+            }
+            if (json.has("offsetZones")) {
+                // Load offset zones
+                JsonArray zonesArray = json.getAsJsonArray("offsetZones");
+                offsetZones.clear();
+                for (JsonElement element : zonesArray) {
+                    offsetZones.add(zoneFromJson(element.getAsJsonObject()));
+                }
+            }
+            if (json.has("packetTraceLevel")) {
+                packetTraceLevel = json.get("packetTraceLevel").getAsString();
+            }
+            if (json.has("packetTraceSampleRate")) {
+                packetTraceSampleRate = json.get("packetTraceSampleRate").getAsInt();
+            }
+            if (json.has("chunkAlignedOffset")) {
+                chunkAlignedOffset = json.get("chunkAlignedOffset").getAsBoolean();
+            }
+            
+            // Load Web Server Settings
+            if (json.has("webMaxConcurrentRequests")) {
+                webMaxConcurrentRequests = json.get("webMaxConcurrentRequests").getAsInt();
+            }
+            if (json.has("statsStreamIntervalTicks")) {
+                statsStreamIntervalTicks = json.get("statsStreamIntervalTicks").getAsInt();
+            }
             
             // Load Display Settings
             if (json.has("showCoordinates")) {
@@ -275,7 +326,11 @@ public class WebControlConfig {
         }
     }
     
-    public void save() {
+    public synchronized void save() {
+        if (deferredSaveDepth > 0) {
+            savePending = true;
+            return;
+        }
         try {
             JsonObject json = new JsonObject();
             
@@ -328,6 +383,20 @@ public class WebControlConfig {
             json.addProperty("rapidHudMode", rapidHudMode);
             json.addProperty("textReplaceMode", textReplaceMode);
             json.addProperty("replacementText", replacementText);
+            json.addProperty("spoofEngine", spoofEngine);
+            json.addProperty("chunkAlignedOffset", chunkAlignedOffset);
+            json.addProperty("skipHooksWhenDisabled", skipHooksWhenDisabled);
+            JsonArray zonesArray = new JsonArray();
+            for (OffsetZone zone : offsetZones) {
+                zonesArray.add(zoneToJson(zone));
+            }
+            json.add("offsetZones", zonesArray);
+            json.addProperty("packetTraceLevel", packetTraceLevel);
+            json.addProperty("packetTraceSampleRate", packetTraceSampleRate);
+            
+            // Save Web Server Settings
+            json.addProperty("webMaxConcurrentRequests", webMaxConcurrentRequests);
+            json.addProperty("statsStreamIntervalTicks", statsStreamIntervalTicks);
             
             // Save Display Settings
             json.addProperty("showCoordinates", showCoordinates);
@@ -350,39 +419,58 @@ public class WebControlConfig {
         }
     }
     
-    // Utility methods for updating specific settings
-    public void updatePanicQuit(boolean enabled) {
+    /**
+     * Until the matching flushDeferredSaves(), update* calls change the fields but write nothing
+     */
+    public synchronized void deferSaves() {
+        deferredSaveDepth++;
+    }
+
+    /**
+     * Writes the file once if anything was saved since deferSaves()
+     */
+    public synchronized void flushDeferredSaves() {
+        if (deferredSaveDepth > 0 && --deferredSaveDepth == 0 && savePending) {
+            savePending = false;
+            save();
+        }
+    }
+
+    // Utility methods for updating specific settings.
+    // Synchronized with save(): requests run on several threads, a field group is changed and
+    // written as one step, so the file never mixes two requests or iterates a map being replaced
+    public synchronized void updatePanicQuit(boolean enabled) {
         this.panicQuitEnabled = enabled;
         save();
     }
 
-    public void updateVisualRange(boolean enabled, double distance) {
+    public synchronized void updateVisualRange(boolean enabled, double distance) {
         this.visualRangeEnabled = enabled;
         this.visualRangeDistance = distance;
         save();
     }
 
-    public void updateAutoReconnect(boolean enabled, int delay, int maxAttempts) {
+    public synchronized void updateAutoReconnect(boolean enabled, int delay, int maxAttempts) {
         this.autoReconnectEnabled = enabled;
         this.autoReconnectDelay = delay;
         this.autoReconnectMaxAttempts = maxAttempts;
         save();
     }
 
-    public void updateAntiAFK(boolean enabled, int interval, Object action) {
+    public synchronized void updateAntiAFK(boolean enabled, int interval, Object action) {
         this.antiAFKEnabled = enabled;
         this.antiAFKInterval = interval;
         this.antiAFKAction = action.toString();
         save();
     }
 
-    public void updateAutoChat(boolean enabled, Map<String, String> responses) {
+    public synchronized void updateAutoChat(boolean enabled, Map<String, String> responses) {
         this.autoChatEnabled = enabled;
         this.autoChatResponses = new HashMap<>(responses);
         save();
     }
 
-    public void updateEventNotifications(boolean enabled, boolean playerJoin, boolean playerLeave,
+    public synchronized void updateEventNotifications(boolean enabled, boolean playerJoin, boolean playerLeave,
                                        boolean death, boolean mention, boolean privateMessage,
                                        boolean serverRestart, boolean lowHealth, boolean lowHunger) {
         this.eventNotificationsEnabled = enabled;
@@ -397,56 +485,100 @@ public class WebControlConfig {
         save();
     }
     
-    public void updateSpoofMode(String mode) {
+    public synchronized void updateSpoofMode(String mode) {
         this.spoofMode = mode;
         save();
     }
     
-    public void updateOffset(double x, double y, double z) {
+    public synchronized void updateOffset(double x, double y, double z) {
         this.offsetX = x;
         this.offsetY = y;
         this.offsetZ = z;
         save();
     }
     
-    public void updateAnimateCoords(boolean animate) {
+    public synchronized void updateSpoofEngine(String engine) {
+        this.spoofEngine = engine;
+        save();
+    }
+    
+    public synchronized void updateOffsetZones(List<OffsetZone> zones) {
+        this.offsetZones = new ArrayList<>(zones);
+        save();
+    }
+
+    public static OffsetZone zoneFromJson(JsonObject zoneObj) {
+        return new OffsetZone(
+            zoneObj.has("name") ? zoneObj.get("name").getAsString() : "",
+            zoneObj.get("minX").getAsDouble(), zoneObj.get("minZ").getAsDouble(),
+            zoneObj.get("maxX").getAsDouble(), zoneObj.get("maxZ").getAsDouble(),
+            zoneObj.has("offsetX") ? zoneObj.get("offsetX").getAsDouble() : 0,
+            zoneObj.has("offsetY") ? zoneObj.get("offsetY").getAsDouble() : 0,
+            zoneObj.has("offsetZ") ? zoneObj.get("offsetZ").getAsDouble() : 0);
+    }
+
+    public static JsonObject zoneToJson(OffsetZone zone) {
+        JsonObject zoneObj = new JsonObject();
+        zoneObj.addProperty("name", zone.name());
+        zoneObj.addProperty("minX", zone.minX());
+        zoneObj.addProperty("minZ", zone.minZ());
+        zoneObj.addProperty("maxX", zone.maxX());
+        zoneObj.addProperty("maxZ", zone.maxZ());
+        zoneObj.addProperty("offsetX", zone.offsetX());
+        zoneObj.addProperty("offsetY", zone.offsetY());
+        zoneObj.addProperty("offsetZ", zone.offsetZ());
+        return zoneObj;
+    }
+    
+    public synchronized void updatePacketTrace(String level, int sampleRate) {
+        this.packetTraceLevel = level;
+        this.packetTraceSampleRate = sampleRate;
+        save();
+    }
+    
+    public synchronized void updateChunkAlignedOffset(boolean aligned) {
+        this.chunkAlignedOffset = aligned;
+        save();
+    }
+    
+    public synchronized void updateAnimateCoords(boolean animate) {
         this.animateCoords = animate;
         save();
     }
     
-    public void updateObscureRotations(boolean obscure) {
+    public synchronized void updateObscureRotations(boolean obscure) {
         this.obscureRotations = obscure;
         save();
     }
     
-    public void updateBiomeSpoof(String biome, boolean enabled) {
+    public synchronized void updateBiomeSpoof(String biome, boolean enabled) {
         this.spoofedBiome = biome;
         this.biomeSpoofingEnabled = enabled;
         save();
     }
     
-    public void updateRapidChangeMode(boolean enabled) {
+    public synchronized void updateRapidChangeMode(boolean enabled) {
         this.rapidChangeMode = enabled;
         save();
     }
     
-    public void updateRapidHudMode(boolean enabled) {
+    public synchronized void updateRapidHudMode(boolean enabled) {
         this.rapidHudMode = enabled;
         save();
     }
     
-    public void updateTextReplaceMode(boolean enabled, String text) {
+    public synchronized void updateTextReplaceMode(boolean enabled, String text) {
         this.textReplaceMode = enabled;
         this.replacementText = text;
         save();
     }
     
-    public void updateShowCoordinates(boolean show) {
+    public synchronized void updateShowCoordinates(boolean show) {
         this.showCoordinates = show;
         save();
     }
     
-    public void updateGameSettings(int fov, int renderDistance, double brightness, double volume) {
+    public synchronized void updateGameSettings(int fov, int renderDistance, double brightness, double volume) {
         this.fov = fov;
         this.renderDistance = renderDistance;
         this.brightness = brightness;
@@ -473,7 +605,7 @@ public class WebControlConfig {
 
     // Auto Chat getters
     public boolean isAutoChatEnabled() { return autoChatEnabled; }
-    public Map<String, String> getAutoChatResponses() { return new HashMap<>(autoChatResponses); }
+    public synchronized Map<String, String> getAutoChatResponses() { return new HashMap<>(autoChatResponses); }
 
     // Event Notifications getters
     public boolean isEventNotificationsEnabled() { return eventNotificationsEnabled; }
@@ -497,6 +629,14 @@ public class WebControlConfig {
     public boolean isRapidHudMode() { return rapidHudMode; }
     public boolean isTextReplaceMode() { return textReplaceMode; }
     public String getReplacementText() { return replacementText; }
+    public String getSpoofEngine() { return spoofEngine; }
+    public boolean isChunkAlignedOffset() { return chunkAlignedOffset; }
+    public boolean isSkipHooksWhenDisabled() { return skipHooksWhenDisabled; }
+    public synchronized List<OffsetZone> getOffsetZones() { return new ArrayList<>(offsetZones); }
+    public String getPacketTraceLevel() { return packetTraceLevel; }
+    public int getPacketTraceSampleRate() { return packetTraceSampleRate; }
+    public int getWebMaxConcurrentRequests() { return webMaxConcurrentRequests; }
+    public int getStatsStreamIntervalTicks() { return statsStreamIntervalTicks; }
     public boolean isShowCoordinates() { return showCoordinates; }
     public int getFov() { return fov; }
     public int getRenderDistance() { return renderDistance; }
@@ -1,22 +1,47 @@
 package com.example.webcontrol;
 
+import com.example.webcontrol.spoof.CoordSpoofManager;
+import com.example.webcontrol.spoof.CoordinateTransforms;
+import com.example.webcontrol.spoof.OffsetResync;
+import com.example.webcontrol.spoof.OffsetZone;
+import com.example.webcontrol.spoof.PacketRewriterRegistry;
+import com.example.webcontrol.spoof.PacketTrace;
+import com.example.webcontrol.spoof.SpoofState;
 import com.example.webcontrol.spoof.TrueRusherHackSpoofer;
 
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.Gson;
+import com.google.gson.JsonParser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class WebControlHandler implements HttpHandler {
+    // Settings are applied on the client thread at the end of the tick (ClientCommandQueue)
+    private static final String QUEUED = "{\"success\":true,\"queued\":true}";
+
+    private static final int MAX_BATCH_OPERATIONS = 64;
+    private static final long BATCH_TIMEOUT_SECONDS = 5;
+
+    /**
+     * Body and status of a POST endpoint, sent as-is or collected into a batch result
+     */
+    private record ApiResponse(String body, int status) {}
+
     @Override
     public void handle(HttpExchange exchange) throws IOException {
         String path = exchange.getRequestURI().getPath();
@@ -74,6 +99,22 @@ public class WebControlHandler implements HttpHandler {
                     String visualRangeStatusResponse = getVisualRangeStatus();
                     sendResponse(exchange, visualRangeStatusResponse, 200);
                     break;
+                case "spoof/coverage":
+                    sendResponse(exchange, getSpoofCoverage(), 200);
+                    break;
+                case "trace":
+                    sendResponse(exchange, getPacketTrace(exchange.getRequestURI().getQuery()), 200);
+                    break;
+                case "spoof/zones":
+                    sendResponse(exchange, getOffsetZones(), 200);
+                    break;
+                case "http/status":
+                    sendResponse(exchange, getHttpStatus(), 200);
+                    break;
+                case "stream":
+                    // Server-Sent Events: the exchange stays open on its own thread
+                    StatsStreamHub.subscribe(exchange);
+                    break;
                 default:
                     sendResponse(exchange, "{\"error\":\"Unknown endpoint\"}", 404);
                     break;
@@ -81,179 +122,359 @@ public class WebControlHandler implements HttpHandler {
         } else if (method.equals("POST")) {
             InputStream requestBody = exchange.getRequestBody();
             String body = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8);
-            Gson gson = new Gson();
-            JsonObject json = gson.fromJson(body, JsonObject.class);
 
-            switch (path) {
-                case "toggleCoordinates":
-                    // WebControlClient.toggleCoordinates(); // Removed - file deleted
-                    boolean isEnabled = true; // Always enabled for now
-                    sendResponse(exchange, "{\"message\":\"Coordinates display " + (isEnabled ? "enabled" : "disabled") + "\"}", 200);
-                    break;
+            ApiResponse response;
+            if (path.equals("batch")) {
+                response = runBatch(body);
+            } else {
+                response = handlePost(path, body, new Gson().fromJson(body, JsonObject.class));
+            }
+            sendResponse(exchange, response.body(), response.status());
+        } else {
+            sendResponse(exchange, "{\"error\":\"Method not allowed\"}", 405);
+        }
+    }
 
-                case "stats":
-                    sendResponse(exchange, getGameStats(), 200);
-                    break;
+    /**
+     * POST endpoints, shared by single requests and /api/batch operations
+     */
+    private ApiResponse handlePost(String path, String body, JsonObject json) {
+        switch (path) {
+            case "toggleCoordinates":
+                // WebControlClient.toggleCoordinates(); // Removed - file deleted
+                boolean isEnabled = true; // Always enabled for now
+                return new ApiResponse("{\"message\":\"Coordinates display " + (isEnabled ? "enabled" : "disabled") + "\"}", 200);
+
+            case "stats":
+                return new ApiResponse(getGameStats(), 200);
+
+            case "spoof/set":
+                if (json.has("x") && json.has("y") && json.has("z")) {
+                    double x = json.get("x").getAsDouble();
+                    double y = json.get("y").getAsDouble();
+                    double z = json.get("z").getAsDouble();
+                    WebControlConfig config = WebControlConfig.getInstance();
+                    // Applied and saved under the config lock: concurrent requests save in the order they applied
+                    synchronized (config) {
+                        // Effective offset - whole chunks and no Y offset in chunk-aligned mode
+                        SpoofState applied = TrueRusherHackSpoofer.setOffset(x, y, z);
+                        config.updateOffset(applied.offsetX(), applied.offsetY(), applied.offsetZ());
+                    }
+                    return new ApiResponse("{\"status\":\"success\",\"message\":\"Spoof coordinates set\"}", 200);
+                } else {
+                    return new ApiResponse("{\"error\":\"Missing coordinates\"}", 400);
+                }
 
-                case "spoof/set":
-                    if (json.has("x") && json.has("y") && json.has("z")) {
-                        double x = json.get("x").getAsDouble();
-                        double y = json.get("y").getAsDouble();
-                        double z = json.get("z").getAsDouble();
-                        TrueRusherHackSpoofer.setOffset(x, y, z);
-                        WebControlConfig.getInstance().updateOffset(x, y, z);
-                        sendResponse(exchange, "{\"status\":\"success\",\"message\":\"Spoof coordinates set\"}", 200);
-                    } else {
-                        sendResponse(exchange, "{\"error\":\"Missing coordinates\"}", 400);
+            case "spoof/mode":
+                if (json.has("mode")) {
+                    String mode = json.get("mode").getAsString().toUpperCase();
+                    try {
+                        TrueRusherHackSpoofer.SpoofMode spoofMode = TrueRusherHackSpoofer.SpoofMode.valueOf(mode);
+                        WebControlConfig config = WebControlConfig.getInstance();
+                        boolean applied;
+                        synchronized (config) {
+                            applied = TrueRusherHackSpoofer.setMode(spoofMode);
+                            config.updateSpoofMode(mode);
+                        }
+                        JsonObject modeResponse = new JsonObject();
+                        modeResponse.addProperty("status", "success");
+                        modeResponse.addProperty("mode", mode.toLowerCase());
+                        // Hooks were skipped at launch - the saved mode takes effect after a restart
+                        modeResponse.addProperty("restartRequired", !applied);
+                        return new ApiResponse(modeResponse.toString(), 200);
+                    } catch (IllegalStateException e) {
+                        return conflict(e);
+                    } catch (IllegalArgumentException e) {
+                        return new ApiResponse("{\"error\":\"Invalid mode. Valid modes: vanilla, offset, render\"}", 400);
                     }
-                    break;
+                } else {
+                    return new ApiResponse("{\"error\":\"Missing mode parameter\"}", 400);
+                }
 
-                case "spoof/mode":
-                    if (json.has("mode")) {
-                        String mode = json.get("mode").getAsString().toUpperCase();
+            case "spoof/chunkaligned":
+                if (json.has("enabled")) {
+                    boolean aligned = json.get("enabled").getAsBoolean();
+                    WebControlConfig config = WebControlConfig.getInstance();
+                    SpoofState alignedState;
+                    synchronized (config) {
                         try {
-                            TrueRusherHackSpoofer.SpoofMode spoofMode = TrueRusherHackSpoofer.SpoofMode.valueOf(mode);
-                            TrueRusherHackSpoofer.setMode(spoofMode);
-                            WebControlConfig.getInstance().updateSpoofMode(mode);
-                            sendResponse(exchange, "{\"status\":\"success\",\"mode\":\"" + mode.toLowerCase() + "\"}", 200);
-                        } catch (IllegalArgumentException e) {
-                            sendResponse(exchange, "{\"error\":\"Invalid mode. Valid modes: vanilla, offset\"}", 400);
+                            TrueRusherHackSpoofer.setChunkAligned(aligned);
+                        } catch (IllegalStateException e) {
+                            return conflict(e);
                         }
+                        config.updateChunkAlignedOffset(aligned);
+                        // Rounding may have changed the offset, persist the effective one
+                        alignedState = TrueRusherHackSpoofer.getState();
+                        config.updateOffset(alignedState.offsetX(), alignedState.offsetY(), alignedState.offsetZ());
+                    }
+                    JsonObject alignedResponse = new JsonObject();
+                    alignedResponse.addProperty("status", "success");
+                    alignedResponse.addProperty("chunkAligned", aligned);
+                    alignedResponse.addProperty("offsetX", alignedState.offsetX());
+                    alignedResponse.addProperty("offsetY", alignedState.offsetY());
+                    alignedResponse.addProperty("offsetZ", alignedState.offsetZ());
+                    return new ApiResponse(alignedResponse.toString(), 200);
+                } else {
+                    return new ApiResponse("{\"error\":\"Missing enabled parameter\"}", 400);
+                }
+
+            case "spoof/engine":
+                if (json.has("engine")) {
+                    String engine = json.get("engine").getAsString().toLowerCase();
+                    if (engine.equals("reflective") || engine.equals("typed") || engine.equals("netty")) {
+                        // Engine is fixed for the lifetime of the client - picked up on next start
+                        WebControlConfig.getInstance().updateSpoofEngine(engine);
+                        JsonObject engineResponse = new JsonObject();
+                        engineResponse.addProperty("status", "success");
+                        engineResponse.addProperty("engine", engine);
+                        engineResponse.addProperty("activeEngine", CoordinateTransforms.active().name());
+                        engineResponse.addProperty("restartRequired", !engine.equals(CoordinateTransforms.active().name()));
+                        return new ApiResponse(engineResponse.toString(), 200);
                     } else {
-                        sendResponse(exchange, "{\"error\":\"Missing mode parameter\"}", 400);
+                        return new ApiResponse("{\"error\":\"Invalid engine. Valid engines: reflective, typed, netty\"}", 400);
                     }
-                    break;
+                } else {
+                    return new ApiResponse("{\"error\":\"Missing engine parameter\"}", 400);
+                }
 
-                case "spoof/status":
-                    JsonObject spoofStatus = new JsonObject();
-                    spoofStatus.addProperty("mode", TrueRusherHackSpoofer.getModeString());
-                    spoofStatus.addProperty("offsetX", TrueRusherHackSpoofer.getOffsetX());
-                    spoofStatus.addProperty("offsetY", TrueRusherHackSpoofer.getOffsetY());
-                    spoofStatus.addProperty("offsetZ", TrueRusherHackSpoofer.getOffsetZ());
-                    // Simplified - no complex features
-                    spoofStatus.addProperty("animateCoords", false);
-                    spoofStatus.addProperty("obscureRotations", false);
-                    spoofStatus.addProperty("spoofedBiome", "");
-                    spoofStatus.addProperty("biomeSpoofingEnabled", false);
-                    spoofStatus.addProperty("rapidChangeMode", false);
-                    spoofStatus.addProperty("rapidHudMode", false);
-                    spoofStatus.addProperty("textReplaceMode", false);
-                    spoofStatus.addProperty("replacementText", "");
-                    sendResponse(exchange, spoofStatus.toString(), 200);
-                    break;
+            case "spoof/zones":
+                if (json.has("zones")) {
+                    try {
+                        List<OffsetZone> zones = new ArrayList<>();
+                        for (JsonElement element : json.getAsJsonArray("zones")) {
+                            zones.add(WebControlConfig.zoneFromJson(element.getAsJsonObject()));
+                        }
+                        WebControlConfig config = WebControlConfig.getInstance();
+                        synchronized (config) {
+                            CoordSpoofManager.setZones(zones);
+                            config.updateOffsetZones(zones);
+                        }
+                        return new ApiResponse(getOffsetZones(), 200);
+                    } catch (IllegalStateException e) {
+                        return conflict(e);
+                    } catch (RuntimeException e) {
+                        return new ApiResponse("{\"error\":\"Invalid zone: minX, minZ, maxX and maxZ are required\"}", 400);
+                    }
+                } else {
+                    return new ApiResponse("{\"error\":\"Missing zones parameter\"}", 400);
+                }
 
-                // Simplified - complex features removed
-                case "spoof/animate":
-                case "spoof/rotations":
-                case "spoof/biome":
-                    sendResponse(exchange, "{\"status\":\"success\",\"message\":\"Feature not available in simple mode\"}", 200);
-                    break;
+            case "trace/config":
+                int traceLevel = json.has("level") ? PacketTrace.parseLevel(json.get("level").getAsString()) : PacketTrace.getLevel();
+                int traceSampleRate = json.has("sampleRate") ? json.get("sampleRate").getAsInt() : PacketTrace.getSampleRate();
+                PacketTrace.configure(traceLevel, traceSampleRate);
+                WebControlConfig.getInstance().updatePacketTrace(PacketTrace.levelName(PacketTrace.getLevel()), PacketTrace.getSampleRate());
+                JsonObject traceResponse = new JsonObject();
+                traceResponse.addProperty("status", "success");
+                traceResponse.addProperty("level", PacketTrace.levelName(PacketTrace.getLevel()));
+                traceResponse.addProperty("sampleRate", PacketTrace.getSampleRate());
+                // typed/netty engines write no field records, FIELDS then traces like PACKETS
+                traceResponse.addProperty("fieldsTraced", CoordinateTransforms.active().tracesFields());
+                return new ApiResponse(traceResponse.toString(), 200);
+
+            case "spoof/status":
+                SpoofState state = TrueRusherHackSpoofer.getState();
+                JsonObject spoofStatus = new JsonObject();
+                spoofStatus.addProperty("mode", state.mode().name().toLowerCase());
+                spoofStatus.addProperty("offsetX", state.offsetX());
+                spoofStatus.addProperty("offsetY", state.offsetY());
+                spoofStatus.addProperty("offsetZ", state.offsetZ());
+                spoofStatus.addProperty("chunkAligned", state.chunkAligned());
+                spoofStatus.addProperty("epoch", state.epoch());
+                spoofStatus.addProperty("resyncPending", OffsetResync.isPending());
+                spoofStatus.addProperty("engine", CoordinateTransforms.active().name());
+                spoofStatus.addProperty("hooksInstalled", TrueRusherHackSpoofer.areHooksInstalled());
+                spoofStatus.addProperty("restartRequired", !TrueRusherHackSpoofer.areHooksInstalled()
+                    && !"VANILLA".equalsIgnoreCase(WebControlConfig.getInstance().getSpoofMode()));
+                // Simplified - no complex features
+                spoofStatus.addProperty("animateCoords", false);
+                spoofStatus.addProperty("obscureRotations", false);
+                spoofStatus.addProperty("spoofedBiome", "");
+                spoofStatus.addProperty("biomeSpoofingEnabled", false);
+                spoofStatus.addProperty("rapidChangeMode", false);
+                spoofStatus.addProperty("rapidHudMode", false);
+                spoofStatus.addProperty("textReplaceMode", false);
+                spoofStatus.addProperty("replacementText", "");
+                return new ApiResponse(spoofStatus.toString(), 200);
+
+            // Simplified - complex features removed
+            case "spoof/animate":
+            case "spoof/rotations":
+            case "spoof/biome":
+                return new ApiResponse("{\"status\":\"success\",\"message\":\"Feature not available in simple mode\"}", 200);
+
+            case "spoof/preset":
+                if (json.has("preset")) {
+                    String preset = json.get("preset").getAsString();
+                    // applyPreset method removed - only VANILLA/OFFSET modes supported
+                    return new ApiResponse("{\"status\":\"success\",\"preset\":\"" + preset + "\"}", 200);
+                } else {
+                    return new ApiResponse("{\"error\":\"Missing preset parameter\"}", 400);
+                }
 
-                case "spoof/preset":
-                    if (json.has("preset")) {
-                        String preset = json.get("preset").getAsString();
-                        // applyPreset method removed - only VANILLA/OFFSET modes supported
-                        sendResponse(exchange, "{\"status\":\"success\",\"preset\":\"" + preset + "\"}", 200);
-                    } else {
-                        sendResponse(exchange, "{\"error\":\"Missing preset parameter\"}", 400);
-                    }
-                    break;
+            // Simplified - complex features removed
+            case "spoof/rapid":
+            case "spoof/rapidhud":
+            case "spoof/textreplace":
+            case "spoof/replacementtext":
+                return new ApiResponse("{\"status\":\"success\",\"message\":\"Feature not available in simple mode\"}", 200);
 
-                // Simplified - complex features removed
-                case "spoof/rapid":
-                case "spoof/rapidhud":
-                case "spoof/textreplace":
-                case "spoof/replacementtext":
-                    sendResponse(exchange, "{\"status\":\"success\",\"message\":\"Feature not available in simple mode\"}", 200);
-                    break;
+            case "spoof/streamer":
+                // Streamer mode removed - only VANILLA/OFFSET modes supported
+                return new ApiResponse("{\"error\":\"Streamer mode not supported. Use OFFSET mode instead.\"}", 400);
 
-                case "spoof/streamer":
-                    // Streamer mode removed - only VANILLA/OFFSET modes supported
-                    sendResponse(exchange, "{\"error\":\"Streamer mode not supported. Use OFFSET mode instead.\"}", 400);
-                    break;
+            case "settings":
+                return new ApiResponse(getGameSettings(), 200);
 
-                case "settings":
-                    sendResponse(exchange, getGameSettings(), 200);
-                    break;
+            case "settings/fov":
+                String fovResponse = updateFOV(body);
+                return new ApiResponse(fovResponse, 200);
 
-                case "settings/fov":
-                    String fovResponse = updateFOV(body);
-                    sendResponse(exchange, fovResponse, 200);
-                    break;
+            case "settings/render":
+                String renderResponse = updateRenderDistance(body);
+                return new ApiResponse(renderResponse, 200);
 
-                case "settings/render":
-                    String renderResponse = updateRenderDistance(body);
-                    sendResponse(exchange, renderResponse, 200);
-                    break;
+            case "settings/brightness":
+                String brightnessResponse = updateBrightness(body);
+                return new ApiResponse(brightnessResponse, 200);
 
-                case "settings/brightness":
-                    String brightnessResponse = updateBrightness(body);
-                    sendResponse(exchange, brightnessResponse, 200);
-                    break;
+            case "settings/volume":
+                String volumeResponse = updateVolume(body);
+                return new ApiResponse(volumeResponse, 200);
 
-                case "settings/volume":
-                    String volumeResponse = updateVolume(body);
-                    sendResponse(exchange, volumeResponse, 200);
-                    break;
+            case "status":
+                return new ApiResponse("{\"status\":\"connected\"}", 200);
 
-                case "status":
-                    sendResponse(exchange, "{\"status\":\"connected\"}", 200);
-                    break;
+            case "actions/f3":
+                String f3Response = toggleF3();
+                return new ApiResponse(f3Response, 200);
 
-                case "actions/f3":
-                    String f3Response = toggleF3();
-                    sendResponse(exchange, f3Response, 200);
-                    break;
+            case "actions/fullscreen":
+                String fullscreenResponse = toggleFullscreen();
+                return new ApiResponse(fullscreenResponse, 200);
 
-                case "actions/fullscreen":
-                    String fullscreenResponse = toggleFullscreen();
-                    sendResponse(exchange, fullscreenResponse, 200);
-                    break;
+            case "actions/screenshot":
+                String screenshotResponse = takeScreenshot();
+                return new ApiResponse(screenshotResponse, 200);
 
-                case "actions/screenshot":
-                    String screenshotResponse = takeScreenshot();
-                    sendResponse(exchange, screenshotResponse, 200);
-                    break;
+            case "actions/pause":
+                String pauseResponse = togglePause();
+                return new ApiResponse(pauseResponse, 200);
 
-                case "actions/pause":
-                    String pauseResponse = togglePause();
-                    sendResponse(exchange, pauseResponse, 200);
-                    break;
+            case "server/join":
+                String joinResponse = joinServer(body);
+                return new ApiResponse(joinResponse, 200);
 
-                case "server/join":
-                    String joinResponse = joinServer(body);
-                    sendResponse(exchange, joinResponse, 200);
-                    break;
+            case "server/leave":
+                String leaveResponse = leaveServer();
+                return new ApiResponse(leaveResponse, 200);
 
-                case "server/leave":
-                    String leaveResponse = leaveServer();
-                    sendResponse(exchange, leaveResponse, 200);
-                    break;
+            case "panicquit/toggle":
+                String panicToggleResponse = togglePanicQuit();
+                return new ApiResponse(panicToggleResponse, 200);
 
-                case "panicquit/toggle":
-                    String panicToggleResponse = togglePanicQuit();
-                    sendResponse(exchange, panicToggleResponse, 200);
-                    break;
+            case "visualrange/toggle":
+                String visualRangeToggleResponse = toggleVisualRange();
+                return new ApiResponse(visualRangeToggleResponse, 200);
 
-                case "visualrange/toggle":
-                    String visualRangeToggleResponse = toggleVisualRange();
-                    sendResponse(exchange, visualRangeToggleResponse, 200);
-                    break;
+            case "visualrange/range":
+                String visualRangeSetResponse = setVisualRange(body);
+                return new ApiResponse(visualRangeSetResponse, 200);
 
-                case "visualrange/range":
-                    String visualRangeSetResponse = setVisualRange(body);
-                    sendResponse(exchange, visualRangeSetResponse, 200);
-                    break;
+            default:
+                return new ApiResponse("{\"error\":\"Unknown endpoint\"}", 404);
+        }
+    }
 
+    /**
+     * POST /api/batch: {"operations":[{"path":"spoof/mode","body":{"mode":"offset"}}, ...]}
+     *
+     * The operations run in order inside one client task, so all of them land in the same tick,
+     * and the config is written once at the end instead of once per operation. Every operation
+     * gets its own status and result; a failing one does not stop the rest.
+     */
+    private ApiResponse runBatch(String body) {
+        JsonArray operations = null;
+        try {
+            JsonObject json = new Gson().fromJson(body, JsonObject.class);
+            if (json != null && json.has("operations")) {
+                operations = json.getAsJsonArray("operations");
+            }
+        } catch (RuntimeException e) {
+            // reported below
+        }
+        if (operations == null) {
+            return new ApiResponse("{\"error\":\"Missing operations array\"}", 400);
+        }
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            return new ApiResponse("{\"error\":\"Too many operations (max " + MAX_BATCH_OPERATIONS + ")\"}", 400);
+        }
 
+        JsonArray batch = operations;
+        CompletableFuture<JsonArray> results = MinecraftClient.getInstance().submit(() -> applyBatch(batch));
+        try {
+            JsonObject response = new JsonObject();
+            response.add("results", results.get(BATCH_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            return new ApiResponse(response.toString(), 200);
+        } catch (TimeoutException e) {
+            // Still runs once the client catches up, only the results are lost
+            return new ApiResponse("{\"error\":\"Client did not run the batch in time\"}", 503);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ApiResponse("{\"error\":\"Batch interrupted\"}", 500);
+        } catch (ExecutionException e) {
+            return new ApiResponse("{\"error\":\"Batch failed\"}", 500);
+        }
+    }
 
-                default:
-                    sendResponse(exchange, "{\"error\":\"Unknown endpoint\"}", 404);
-                    break;
+    /**
+     * Client thread
+     */
+    private JsonArray applyBatch(JsonArray operations) {
+        WebControlConfig config = WebControlConfig.getInstance();
+        JsonArray results = new JsonArray();
+        config.deferSaves();
+        try {
+            for (JsonElement operation : operations) {
+                results.add(applyOperation(operation));
             }
-        } else {
-            sendResponse(exchange, "{\"error\":\"Method not allowed\"}", 405);
+        } finally {
+            config.flushDeferredSaves(); // one write for the whole batch
+        }
+        return results;
+    }
+
+    private JsonObject applyOperation(JsonElement element) {
+        JsonObject result = new JsonObject();
+        try {
+            JsonObject operation = element.getAsJsonObject();
+            String path = operation.get("path").getAsString();
+            result.addProperty("path", path);
+            if (path.equals("batch")) {
+                result.addProperty("status", 400);
+                result.addProperty("error", "Nested batches are not allowed");
+                return result;
+            }
+
+            JsonObject args = operation.has("body") ? operation.getAsJsonObject("body") : new JsonObject();
+            ApiResponse response = handlePost(path, args.toString(), args);
+            result.addProperty("status", response.status());
+            result.add("result", JsonParser.parseString(response.body()));
+        } catch (RuntimeException e) {
+            // Malformed operation or arguments the endpoint did not expect
+            result.addProperty("status", 400);
+            result.addProperty("error", "Invalid operation: " + e.getMessage());
         }
+        return result;
+    }
+
+    /**
+     * The request is valid but cannot be applied in the current spoofing state
+     */
+    private static ApiResponse conflict(IllegalStateException e) {
+        JsonObject error = new JsonObject();
+        error.addProperty("error", e.getMessage());
+        return new ApiResponse(error.toString(), 409);
     }
 
     private String handleSpooferUpdate(String body) {
@@ -273,20 +494,22 @@ public class WebControlHandler implements HttpHandler {
     }
 
     private String getGameStats() {
-        MinecraftClient client = MinecraftClient.getInstance();
-        JsonObject stats = new JsonObject();
+        return buildGameStats(GameStateSnapshot.read()).toString();
+    }
 
-        if (client.player != null) {
-            BlockPos pos = client.player.getBlockPos();
-            stats.addProperty("position", String.format("X: %d, Y: %d, Z: %d", pos.getX(), pos.getY(), pos.getZ()));
+    /**
+     * Shared by POST /api/stats and the /api/stream snapshots (StatsStreamHub).
+     * Built from the tick snapshot - no game state is read on the calling thread
+     */
+    static JsonObject buildGameStats(GameStateSnapshot.Values state) {
+        JsonObject stats = new JsonObject();
 
-            if (client.world != null) {
-                // Get biome name properly
-                String biomeName = client.world.getBiome(pos).getKey().map(key -> key.getValue().getPath()).orElse("Unknown");
-                stats.addProperty("biome", biomeName);
+        if (state.inGame()) {
+            stats.addProperty("position", "X: " + state.blockX() + ", Y: " + state.blockY() + ", Z: " + state.blockZ());
 
-                long time = client.world.getTimeOfDay();
-                stats.addProperty("time", getTimeString(time));
+            if (state.inWorld()) {
+                stats.addProperty("biome", state.biome());
+                stats.addProperty("time", getTimeString(state.timeOfDay()));
             } else {
                 stats.addProperty("biome", "Unknown");
                 stats.addProperty("time", "Unknown");
@@ -298,16 +521,16 @@ public class WebControlHandler implements HttpHandler {
         }
 
         // Add FPS
-        stats.addProperty("fps", String.valueOf(client.getCurrentFps()));
+        stats.addProperty("fps", String.valueOf(state.fps()));
 
-        return stats.toString();
+        return stats;
     }
 
     private String getGameSettings() {
-        MinecraftClient client = MinecraftClient.getInstance();
+        GameStateSnapshot.Values state = GameStateSnapshot.read();
         JsonObject settings = new JsonObject();
-        settings.addProperty("fov", client.options.getFov().getValue());
-        settings.addProperty("renderDistance", client.options.getViewDistance().getValue());
+        settings.addProperty("fov", state.fov());
+        settings.addProperty("renderDistance", state.renderDistance());
         return settings.toString();
     }
 
@@ -315,8 +538,8 @@ public class WebControlHandler implements HttpHandler {
         try {
             JsonObject json = new Gson().fromJson(body, JsonObject.class);
             int value = json.get("value").getAsInt();
-            MinecraftClient.getInstance().options.getFov().setValue(value);
-            return "{\"success\":true}";
+            ClientCommandQueue.submit(ClientCommandQueue.Setting.FOV, value);
+            return QUEUED;
         } catch (Exception e) {
             return "{\"success\":false,\"error\":\"Invalid FOV value\"}";
         }
@@ -326,8 +549,8 @@ public class WebControlHandler implements HttpHandler {
         try {
             JsonObject json = new Gson().fromJson(body, JsonObject.class);
             int value = json.get("value").getAsInt();
-            MinecraftClient.getInstance().options.getViewDistance().setValue(value);
-            return "{\"success\":true}";
+            ClientCommandQueue.submit(ClientCommandQueue.Setting.RENDER_DISTANCE, value);
+            return QUEUED;
         } catch (Exception e) {
             return "{\"success\":false,\"error\":\"Invalid render distance value\"}";
         }
@@ -357,8 +580,8 @@ public class WebControlHandler implements HttpHandler {
         try {
             JsonObject json = new Gson().fromJson(body, JsonObject.class);
             double value = json.get("value").getAsDouble() / 100.0; // Convert percentage to 0-1 range
-            MinecraftClient.getInstance().options.getGamma().setValue(value);
-            return "{\"success\":true}";
+            ClientCommandQueue.submit(ClientCommandQueue.Setting.BRIGHTNESS, value);
+            return QUEUED;
         } catch (Exception e) {
             return "{\"success\":false,\"error\":\"Invalid brightness value\"}";
         }
@@ -368,66 +591,41 @@ public class WebControlHandler implements HttpHandler {
         try {
             JsonObject json = new Gson().fromJson(body, JsonObject.class);
             float value = json.get("value").getAsFloat() / 100.0f; // Convert percentage to 0-1 range
-            MinecraftClient.getInstance().options.getSoundVolumeOption(net.minecraft.sound.SoundCategory.MASTER).setValue((double)value);
-            return "{\"success\":true}";
+            ClientCommandQueue.submit(ClientCommandQueue.Setting.VOLUME, value);
+            return QUEUED;
         } catch (Exception e) {
             return "{\"success\":false,\"error\":\"Invalid volume value\"}";
         }
     }
 
     private String toggleF3() {
-        try {
-            MinecraftClient client = MinecraftClient.getInstance();
-            client.getDebugHud().toggleDebugHud();
-            // onF3Opened method removed - not needed for VANILLA/OFFSET modes
-            return "{\"message\":\"F3 debug screen toggled\"}";
-        } catch (Exception e) {
-            return "{\"error\":\"Failed to toggle F3\"}";
-        }
+        return queueAction(ClientCommandQueue.Action.TOGGLE_F3, "F3 debug screen toggled");
     }
 
     private String toggleFullscreen() {
-        try {
-            MinecraftClient client = MinecraftClient.getInstance();
-            client.getWindow().toggleFullscreen();
-            boolean isFullscreen = client.getWindow().isFullscreen();
-            return "{\"message\":\"Fullscreen " + (isFullscreen ? "enabled" : "disabled") + "\"}";
-        } catch (Exception e) {
-            return "{\"error\":\"Failed to toggle fullscreen\"}";
-        }
+        return queueAction(ClientCommandQueue.Action.TOGGLE_FULLSCREEN, "Fullscreen toggled");
     }
 
     private String takeScreenshot() {
-        try {
-            MinecraftClient client = MinecraftClient.getInstance();
-            net.minecraft.client.util.ScreenshotRecorder.saveScreenshot(
-                client.runDirectory,
-                client.getFramebuffer(),
-                (text) -> {
-                    // Screenshot callback - could be used to show notification
-                }
-            );
-            return "{\"message\":\"Screenshot taken\"}";
-        } catch (Exception e) {
-            return "{\"error\":\"Failed to take screenshot\"}";
-        }
+        return queueAction(ClientCommandQueue.Action.SCREENSHOT, "Screenshot taken");
     }
 
     private String togglePause() {
-        try {
-            MinecraftClient client = MinecraftClient.getInstance();
-            if (client.world != null && client.isInSingleplayer()) {
-                client.setScreen(new net.minecraft.client.gui.screen.GameMenuScreen(true));
-                return "{\"message\":\"Game paused\"}";
-            } else {
-                return "{\"message\":\"Cannot pause in multiplayer\"}";
-            }
-        } catch (Exception e) {
-            return "{\"error\":\"Failed to pause game\"}";
+        // Singleplayer is checked on the client thread; in multiplayer the request is ignored
+        return queueAction(ClientCommandQueue.Action.PAUSE, "Pause requested");
+    }
+
+    /**
+     * Answers once the action is queued; it runs on the client thread at the end of the tick
+     */
+    private String queueAction(ClientCommandQueue.Action action, String message) {
+        if (!ClientCommandQueue.submit(action)) {
+            return "{\"error\":\"Too many pending actions, try again\"}";
         }
+        return "{\"message\":\"" + message + "\",\"queued\":true}";
     }
 
-    private String getTimeString(long time) {
+    private static String getTimeString(long time) {
         long hours = (time / 1000 + 6) % 24;
         return String.format("%02d:00", hours);
     }
@@ -462,6 +660,26 @@ public class WebControlHandler implements HttpHandler {
         }
     }
 
+    private String getHttpStatus() {
+        WebServerExecutor executor = WebControlClientMod.getWebExecutor();
+        if (executor == null) {
+            return "{\"error\":\"Web server executor not running\"}";
+        }
+        JsonObject status = new JsonObject();
+        status.addProperty("maxConcurrent", executor.getMaxConcurrent());
+        status.addProperty("active", executor.getActive());
+        status.addProperty("queueDepth", executor.getQueueDepth());
+        status.addProperty("peakQueueDepth", executor.getPeakQueueDepth());
+        status.addProperty("completed", executor.getCompleted());
+        status.addProperty("averageWaitMicros", executor.getAverageWaitMicros());
+        status.addProperty("streamSubscribers", StatsStreamHub.getSubscriberCount());
+        status.addProperty("streamDroppedFrames", StatsStreamHub.getDroppedFrames());
+        status.addProperty("commandsAccepted", ClientCommandQueue.getAccepted());
+        status.addProperty("commandsCoalesced", ClientCommandQueue.getCoalesced());
+        status.addProperty("commandsRejected", ClientCommandQueue.getRejected());
+        return status.toString();
+    }
+
     private String getPanicQuitStatus() {
         try {
             JsonObject status = new JsonObject();
@@ -497,14 +715,15 @@ public class WebControlHandler implements HttpHandler {
 
     private String getVisualRangeStatus() {
         try {
+            GameStateSnapshot.Values state = GameStateSnapshot.read();
             JsonObject status = new JsonObject();
-            status.addProperty("enabled", VisualRangeManager.isEnabled());
-            status.addProperty("range", VisualRangeManager.getRange());
-            status.addProperty("playersInRange", VisualRangeManager.getPlayerCount());
+            status.addProperty("enabled", state.visualRangeEnabled());
+            status.addProperty("range", state.visualRange());
+            status.addProperty("playersInRange", state.playersInRange().length);
 
             // Add list of players currently in range
             JsonArray playersArray = new JsonArray();
-            for (String playerName : VisualRangeManager.getPlayersInRange()) {
+            for (String playerName : state.playersInRange()) {
                 playersArray.add(playerName);
             }
             status.add("players", playersArray);
@@ -517,6 +736,67 @@ public class WebControlHandler implements HttpHandler {
 
 
 
+    private String getSpoofCoverage() {
+        JsonObject coverage = new JsonObject();
+        JsonArray packets = new JsonArray();
+        for (String packetName : PacketRewriterRegistry.getCoveredPackets()) {
+            packets.add(packetName);
+        }
+        coverage.add("typedRewriters", packets);
+        coverage.addProperty("count", packets.size());
+        return coverage.toString();
+    }
+
+    private String getOffsetZones() {
+        JsonArray zones = new JsonArray();
+        for (OffsetZone zone : CoordSpoofManager.getZones()) {
+            zones.add(WebControlConfig.zoneToJson(zone));
+        }
+        JsonObject response = new JsonObject();
+        response.add("zones", zones);
+        return response.toString();
+    }
+
+    /**
+     * Formatting happens here on the HTTP thread, the ring buffer only holds primitives
+     */
+    private String getPacketTrace(String query) {
+        int limit = 200;
+        if (query != null) {
+            for (String param : query.split("&")) {
+                if (param.startsWith("limit=")) {
+                    try {
+                        limit = Math.max(1, Integer.parseInt(param.substring(6)));
+                    } catch (NumberFormatException e) {
+                        // keep default
+                    }
+                }
+            }
+        }
+
+        JsonObject trace = new JsonObject();
+        trace.addProperty("level", PacketTrace.levelName(PacketTrace.getLevel()));
+        trace.addProperty("sampleRate", PacketTrace.getSampleRate());
+        trace.addProperty("fieldsTraced", CoordinateTransforms.active().tracesFields());
+        trace.addProperty("totalRecorded", PacketTrace.getTotalRecorded());
+
+        JsonArray records = new JsonArray();
+        for (PacketTrace.Entry entry : PacketTrace.snapshot(limit)) {
+            JsonObject record = new JsonObject();
+            record.addProperty("timeNanos", entry.timeNanos());
+            record.addProperty("packet", entry.packet());
+            record.addProperty("direction", entry.direction());
+            if (!entry.axis().isEmpty()) {
+                record.addProperty("axis", entry.axis());
+                record.addProperty("before", entry.before());
+                record.addProperty("after", entry.after());
+            }
+            records.add(record);
+        }
+        trace.add("records", records);
+        return trace.toString();
+    }
+
     private String getContentType(String path) {
         if (path.endsWith(".html")) return "text/html";
         if (path.endsWith(".css")) return "text/css";
@@ -0,0 +1,98 @@
+package com.example.webcontrol;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor for the embedded HttpServer: one virtual thread per exchange, at most
+ * maxConcurrent handlers running at once.
+ *
+ * The dispatcher thread only accepts connections and starts a virtual thread, so a slow handler
+ * (stats, config save, a blocked client.execute) no longer holds up every other dashboard.
+ * Exchanges above the cap wait on the semaphore in their own virtual thread - that wait is the
+ * queue depth reported by the http/status endpoint.
+ */
+public final class WebServerExecutor implements Executor {
+    private static final Logger LOGGER = LoggerFactory.getLogger("webcontrol-http");
+
+    private final ExecutorService threads = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("webcontrol-http-", 0).factory());
+    private final Semaphore permits;
+    private final int maxConcurrent;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peakQueued = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    public WebServerExecutor(int maxConcurrent) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.permits = new Semaphore(this.maxConcurrent, true); // fair: first come, first served
+    }
+
+    @Override
+    public void execute(Runnable exchange) {
+        int depth = queued.incrementAndGet();
+        peakQueued.accumulateAndGet(depth, Math::max);
+        long enqueued = System.nanoTime();
+
+        threads.execute(() -> {
+            boolean acquired = false;
+            try {
+                permits.acquire();
+                acquired = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                queued.decrementAndGet();
+            }
+            if (!acquired) {
+                return; // executor shut down while waiting
+            }
+
+            totalWaitNanos.addAndGet(System.nanoTime() - enqueued);
+            active.incrementAndGet();
+            try {
+                exchange.run();
+            } catch (Exception e) {
+                LOGGER.error("[WebServerExecutor] Request failed: " + e.getMessage());
+            } finally {
+                active.decrementAndGet();
+                completed.incrementAndGet();
+                permits.release();
+            }
+        });
+    }
+
+    public void shutdown() {
+        threads.shutdownNow();
+        try {
+            threads.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getMaxConcurrent() { return maxConcurrent; }
+    public int getQueueDepth() { return queued.get(); }
+    public int getPeakQueueDepth() { return peakQueued.get(); }
+    public int getActive() { return active.get(); }
+    public long getCompleted() { return completed.get(); }
+
+    /**
+     * Average time an exchange waited for a free slot, in microseconds
+     */
+    public long getAverageWaitMicros() {
+        long done = completed.get();
+        return done == 0 ? 0 : totalWaitNanos.get() / done / 1000;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.webcontrol.gui;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Allocation-free coordinate formatting into a caller-owned StringBuilder.
+ *
+ * Replaces String.format("%.2f") / ("%.3f") and DecimalFormat("#,###.###") on the render path:
+ * the value is scaled to a long once and written digit by digit, without Formatter, boxing or
+ * locale lookups. Output is identical to the old formats with Locale.ROOT ('.' decimal point,
+ * ',' grouping), which is also what the vanilla F3 screen uses.
+ *
+ * Both old formats round on the decimal representation of the double (HALF_UP and HALF_EVEN).
+ * A fast path cannot see that representation, so values whose scaled fraction is close to .5
+ * and values too large for exact long math are passed to the JDK formatter instead. That is
+ * well under 1% of inputs.
+ */
+public final class CoordinateFormatter {
+
+    private static final long[] POW10 = {1L, 10L, 100L, 1_000L};
+    private static final int MAX_DECIMALS = POW10.length - 1;
+
+    // |value| * 10^3 stays below 1e12: rounding error of the scaled value (< 1e-4) is far below the tie guard
+    private static final double FAST_PATH_LIMIT = 1e9;
+    private static final double TIE_GUARD = 1e-3;
+
+    private static final DecimalFormatSymbols ROOT_SYMBOLS = DecimalFormatSymbols.getInstance(Locale.ROOT);
+
+    private CoordinateFormatter() {}
+
+    /**
+     * Same output as String.format(Locale.ROOT, "%." + decimals + "f", value)
+     */
+    public static StringBuilder appendFixed(StringBuilder sb, double value, int decimals) {
+        long units = scale(value, decimals);
+        if (units < 0) {
+            return sb.append(String.format(Locale.ROOT, "%." + decimals + "f", value));
+        }
+
+        if (isNegative(value)) {
+            sb.append('-'); // the JDK keeps the sign of values that round to zero ("-0.00")
+        }
+        sb.append(units / POW10[decimals]);
+        if (decimals > 0) {
+            sb.append('.');
+            appendPadded(sb, units % POW10[decimals], decimals);
+        }
+        return sb;
+    }
+
+    /**
+     * Same output as new DecimalFormat("#,###.###") (with decimals = 3) using Locale.ROOT symbols:
+     * grouped integer part, trailing fraction zeros dropped
+     */
+    public static StringBuilder appendGrouped(StringBuilder sb, double value, int decimals) {
+        long units = scale(value, decimals);
+        if (units < 0) {
+            return sb.append(groupedFallback(decimals).format(value));
+        }
+
+        if (isNegative(value)) {
+            sb.append('-');
+        }
+        appendGroupedLong(sb, units / POW10[decimals]);
+
+        long fraction = units % POW10[decimals];
+        if (fraction != 0) {
+            int digits = decimals;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            sb.append('.');
+            appendPadded(sb, fraction, digits);
+        }
+        return sb;
+    }
+
+    /**
+     * @return |value| * 10^decimals rounded to a long, or -1 when the fast path cannot
+     *         guarantee the JDK result (near-ties, huge values, NaN/Infinity)
+     */
+    private static long scale(double value, int decimals) {
+        if (decimals < 0 || decimals > MAX_DECIMALS) {
+            throw new IllegalArgumentException("decimals must be 0.." + MAX_DECIMALS + ": " + decimals);
+        }
+
+        double abs = Math.abs(value);
+        if (!(abs < FAST_PATH_LIMIT)) {
+            return -1; // also catches NaN
+        }
+
+        double scaled = abs * POW10[decimals];
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) < TIE_GUARD) {
+            return -1;
+        }
+        return (long) floor + (fraction > 0.5 ? 1 : 0);
+    }
+
+    private static boolean isNegative(double value) {
+        return Double.doubleToRawLongBits(value) < 0;
+    }
+
+    private static void appendPadded(StringBuilder sb, long value, int digits) {
+        for (int i = digits - 1; i > 0 && value < POW10[i]; i--) {
+            sb.append('0');
+        }
+        sb.append(value);
+    }
+
+    private static void appendGroupedLong(StringBuilder sb, long value) {
+        if (value < 1000) {
+            sb.append(value);
+            return;
+        }
+
+        long divisor = 1000;
+        while (value / divisor >= 1000) {
+            divisor *= 1000;
+        }
+        sb.append(value / divisor);
+        while (divisor > 1) {
+            value %= divisor;
+            divisor /= 1000;
+            int group = (int) (value / divisor);
+            sb.append(',')
+                .append((char) ('0' + group / 100))
+                .append((char) ('0' + group / 10 % 10))
+                .append((char) ('0' + group % 10));
+        }
+    }
+
+    /**
+     * DecimalFormat is not thread-safe - a fresh instance for the rare slow path
+     */
+    private static DecimalFormat groupedFallback(int decimals) {
+        DecimalFormat format = new DecimalFormat("#,###.###", ROOT_SYMBOLS);
+        format.setMaximumFractionDigits(decimals);
+        return format;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.webcontrol.gui;
 
 // import com.example.webcontrol.WebControlClient; // Removed - file deleted
 import com.example.webcontrol.spoof.CoordSpoofManager;
+import com.example.webcontrol.spoof.SpoofedPosition;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.font.TextRenderer;
@@ -10,10 +11,10 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import java.awt.*;
 import java.io.InputStream;
-import java.text.DecimalFormat;
 
 public class CoordinateOverlay {
-    private static final DecimalFormat COORDINATE_FORMAT = new DecimalFormat("#,###.###");
+    private static final int COORDINATE_DECIMALS = 3; // same as the old "#,###.###" pattern
+    private static final StringBuilder TEXT_BUFFER = new StringBuilder(64); // render thread only
     private static final float NETHER_RATIO = 8.0f;
     private static Font montserratFont;
 
@@ -43,28 +44,24 @@ public class CoordinateOverlay {
         if (client.player != null) {
             PlayerEntity player = client.player;
             isNether = player.getWorld().getRegistryKey() == World.NETHER;
-            realPos = player.getPos();
+            realPos = CoordSpoofManager.getRawPos(player);
         }
 
         // Get spoofed coordinates (will use fallback values if player is null)
-        Vec3d displayPos = CoordSpoofManager.getSpoofedPosition(realPos);
+        // Nether-scaled values are precomputed with the cached position
+        SpoofedPosition spoofed = CoordSpoofManager.getSpoofedPositionInfo(realPos);
+        Vec3d displayPos = spoofed.pos();
 
-        String coordText;
-        if (isNether) {
-            coordText = String.format("X: %s, Y: %s, Z: %s [%s, %s]",
-                    COORDINATE_FORMAT.format(displayPos.x),
-                    COORDINATE_FORMAT.format(displayPos.y),
-                    COORDINATE_FORMAT.format(displayPos.z),
-                    COORDINATE_FORMAT.format(displayPos.x * NETHER_RATIO),
-                    COORDINATE_FORMAT.format(displayPos.z * NETHER_RATIO));
-        } else {
-            coordText = String.format("X: %s, Y: %s, Z: %s [%s, %s]",
-                    COORDINATE_FORMAT.format(displayPos.x),
-                    COORDINATE_FORMAT.format(displayPos.y),
-                    COORDINATE_FORMAT.format(displayPos.z),
-                    COORDINATE_FORMAT.format(displayPos.x / NETHER_RATIO),
-                    COORDINATE_FORMAT.format(displayPos.z / NETHER_RATIO));
-        }
+        // X: 1,347.472, Y: 79, Z: 454.87 [168.434, 56.859] - other dimension in brackets
+        StringBuilder sb = TEXT_BUFFER;
+        sb.setLength(0);
+        sb.append("X: ");
+        CoordinateFormatter.appendGrouped(sb, displayPos.x, COORDINATE_DECIMALS).append(", Y: ");
+        CoordinateFormatter.appendGrouped(sb, displayPos.y, COORDINATE_DECIMALS).append(", Z: ");
+        CoordinateFormatter.appendGrouped(sb, displayPos.z, COORDINATE_DECIMALS).append(" [");
+        CoordinateFormatter.appendGrouped(sb, isNether ? spoofed.overworldX() : spoofed.netherX(), COORDINATE_DECIMALS).append(", ");
+        CoordinateFormatter.appendGrouped(sb, isNether ? spoofed.overworldZ() : spoofed.netherZ(), COORDINATE_DECIMALS).append(']');
+        String coordText = sb.toString();
 
         // Draw at bottom left with Montserrat-style rendering
         int screenHeight = client.getWindow().getScaledHeight();
@@ -0,0 +1,121 @@
+package com.example.webcontrol.gui;
+
+import com.example.webcontrol.spoof.SpoofedPosition;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.text.MutableText;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Cached coordinate line of the bottom-left HUD (InGameHudMixin).
+ *
+ * The styled Text and its width are rebuilt only when a displayed value changes. Inputs are
+ * compared after quantizing to the 2 decimals that are shown, so a standing or slow-moving
+ * player reuses the same Text every frame without formatting anything.
+ * Only called from the render thread.
+ */
+public final class HudCoordinateText {
+
+    /**
+     * Rendered line and its width in pixels, for the background
+     */
+    public record Line(Text text, int width) {}
+
+    private static final int LABEL_COLOR = 0x55FFFF; // Light blue
+    private static final int VALUE_COLOR = 0xFFFFFF; // White
+    private static final int HIDDEN_COLOR = 0xFF5555; // Red for protection mode
+
+    // Labels never change - built once and shared by every rebuilt line
+    private static final Text LABEL_Y = label(", Y: ");
+    private static final Text LABEL_Z = label(", Z: ");
+    private static final Text LABEL_CHUNK_X = label(", [X: ");
+    private static final Text LABEL_CLOSE = label("]");
+
+    // Последние значения в единицах 0.01 (как на экране)
+    private static long lastX;
+    private static long lastY;
+    private static long lastZ;
+    private static int lastChunkX;
+    private static long lastChunkLocalZ;
+    private static Line coordinates;
+
+    private static final StringBuilder BUFFER = new StringBuilder(16);
+
+    private static String lastReplacement;
+    private static Line replacement;
+
+    private HudCoordinateText() {}
+
+    /**
+     * Format: X: 1347.47, Y: 79.00, Z: 454.87, [X: 84, Z: 6.87]
+     */
+    public static Line coordinates(TextRenderer renderer, Vec3d displayPos, SpoofedPosition spoofed) {
+        double chunkLocalZ = displayPos.z - spoofed.chunkZ() * 16;
+
+        long x = quantize(displayPos.x);
+        long y = quantize(displayPos.y);
+        long z = quantize(displayPos.z);
+        long localZ = quantize(chunkLocalZ);
+        int chunkX = spoofed.chunkX();
+
+        Line cached = coordinates;
+        if (cached != null && x == lastX && y == lastY && z == lastZ &&
+            chunkX == lastChunkX && localZ == lastChunkLocalZ) {
+            return cached;
+        }
+
+        Text text = label("X: ")
+            .append(value(fixed(displayPos.x)))
+            .append(LABEL_Y)
+            .append(value(fixed(displayPos.y)))
+            .append(LABEL_Z)
+            .append(value(fixed(displayPos.z)))
+            .append(LABEL_CHUNK_X)
+            .append(value(String.valueOf(chunkX)))
+            .append(LABEL_Z)
+            .append(value(fixed(chunkLocalZ)))
+            .append(LABEL_CLOSE);
+
+        lastX = x;
+        lastY = y;
+        lastZ = z;
+        lastChunkX = chunkX;
+        lastChunkLocalZ = localZ;
+        coordinates = new Line(text, renderer.getWidth(text));
+        return coordinates;
+    }
+
+    /**
+     * Text replacement mode: rebuilt only when the replacement string changes
+     */
+    public static Line replacement(TextRenderer renderer, String replacementText) {
+        String displayText = replacementText != null && !replacementText.isEmpty() ? replacementText : "HIDDEN";
+
+        Line cached = replacement;
+        if (cached != null && displayText.equals(lastReplacement)) {
+            return cached;
+        }
+
+        Text text = Text.literal(displayText).styled(style -> style.withColor(HIDDEN_COLOR));
+        lastReplacement = displayText;
+        replacement = new Line(text, renderer.getWidth(text));
+        return replacement;
+    }
+
+    private static String fixed(double value) {
+        BUFFER.setLength(0);
+        return CoordinateFormatter.appendFixed(BUFFER, value, 2).toString();
+    }
+
+    private static long quantize(double value) {
+        return Math.round(value * 100.0);
+    }
+
+    private static MutableText label(String text) {
+        return Text.literal(text).styled(style -> style.withColor(LABEL_COLOR));
+    }
+
+    private static Text value(String text) {
+        return Text.literal(text).styled(style -> style.withColor(VALUE_COLOR));
+    }
+}
@@ -3,6 +3,7 @@ package com.example.webcontrol.keybinds;
 import com.example.webcontrol.PanicQuitManager;
 import com.example.webcontrol.VisualRangeManager;
 import com.example.webcontrol.spoof.CoordSpoofManager;
+import com.example.webcontrol.spoof.TrueRusherHackSpoofer;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.minecraft.client.option.KeyBinding;
@@ -89,37 +90,43 @@ public class KeybindManager {
                     LOGGER.warn("Unknown keybind: {}", id);
                     break;
             }
+        } catch (IllegalStateException e) {
+            // Spoofing change refused in the current state (connected in offset mode, zones set)
+            LOGGER.warn("Keybind '{}' ignored: {}", id, e.getMessage());
         } catch (Exception e) {
             LOGGER.error("Error handling keybind '{}': {}", id, e.getMessage());
         }
     }
     
     private static void toggleSpoofing() {
-        CoordSpoofManager.SpoofMode currentMode = CoordSpoofManager.getCurrentMode();
-        if (currentMode == CoordSpoofManager.SpoofMode.VANILLA) {
-            CoordSpoofManager.setMode(CoordSpoofManager.SpoofMode.OFFSET);
+        TrueRusherHackSpoofer.SpoofMode currentMode = CoordSpoofManager.getCurrentMode();
+        if (currentMode == TrueRusherHackSpoofer.SpoofMode.VANILLA) {
+            CoordSpoofManager.setMode(TrueRusherHackSpoofer.SpoofMode.OFFSET);
             CoordSpoofManager.setOffset(100, 0, 100); // Default offset
             LOGGER.info("Coordinate spoofing enabled (OFFSET mode)");
         } else {
-            CoordSpoofManager.setMode(CoordSpoofManager.SpoofMode.VANILLA);
+            CoordSpoofManager.setMode(TrueRusherHackSpoofer.SpoofMode.VANILLA);
             LOGGER.info("Coordinate spoofing disabled");
         }
     }
     
     private static void cycleSpoofMode() {
-        CoordSpoofManager.SpoofMode currentMode = CoordSpoofManager.getCurrentMode();
-        CoordSpoofManager.SpoofMode nextMode;
+        TrueRusherHackSpoofer.SpoofMode currentMode = CoordSpoofManager.getCurrentMode();
+        TrueRusherHackSpoofer.SpoofMode nextMode;
 
-        // Only cycle between VANILLA and OFFSET modes
+        // Cycle VANILLA -> OFFSET -> RENDER -> VANILLA
         switch (currentMode) {
             case VANILLA:
-                nextMode = CoordSpoofManager.SpoofMode.OFFSET;
+                nextMode = TrueRusherHackSpoofer.SpoofMode.OFFSET;
                 break;
             case OFFSET:
-                nextMode = CoordSpoofManager.SpoofMode.VANILLA;
+                nextMode = TrueRusherHackSpoofer.SpoofMode.RENDER;
+                break;
+            case RENDER:
+                nextMode = TrueRusherHackSpoofer.SpoofMode.VANILLA;
                 break;
             default:
-                nextMode = CoordSpoofManager.SpoofMode.VANILLA;
+                nextMode = TrueRusherHackSpoofer.SpoofMode.VANILLA;
                 break;
         }
 
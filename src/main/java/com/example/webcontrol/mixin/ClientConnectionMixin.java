@@ -1,12 +1,19 @@
 package com.example.webcontrol.mixin;
 
+import com.example.webcontrol.spoof.CoordinateTransforms;
+import com.example.webcontrol.spoof.SpoofGuard;
 import com.example.webcontrol.spoof.TrueRusherHackSpoofer;
+import io.netty.channel.Channel;
 import net.minecraft.network.ClientConnection;
+import net.minecraft.network.NetworkSide;
+import net.minecraft.network.NetworkState;
 import net.minecraft.network.PacketCallbacks;
 import net.minecraft.network.listener.PacketListener;
 import net.minecraft.network.packet.Packet;
 import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -17,8 +24,22 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(ClientConnection.class)
 public class ClientConnectionMixin {
 
+    @Shadow
+    private Channel channel;
+
+    // CLIENTBOUND = the client's own connection; the integrated server's (LAN) connections are SERVERBOUND
+    @Shadow
+    @Final
+    private NetworkSide side;
+
     @Inject(method = "handlePacket", at = @At("HEAD"), require = 0)
     private static void genericsFtw(Packet<?> packet, PacketListener listener, CallbackInfo ci) {
+        if (!SpoofGuard.rewritesPackets()) {
+            return; // VANILLA/RENDER: folded to a plain return by the JIT
+        }
+        if (listener.getSide() != NetworkSide.CLIENTBOUND) {
+            return; // integrated server handling a LAN player's packet
+        }
         try {
             // TRUE RusherHack implementation - modifies packet fields directly
             TrueRusherHackSpoofer.onPacketReceive(packet);
@@ -29,6 +50,9 @@ public class ClientConnectionMixin {
 
     @Inject(method = "send(Lnet/minecraft/network/packet/Packet;Lnet/minecraft/network/PacketCallbacks;)V", at = @At("HEAD"), require = 0)
     public void sendPacket(Packet<?> packet, @Nullable PacketCallbacks callbacks, CallbackInfo ci) {
+        if (!SpoofGuard.rewritesPackets() || this.side != NetworkSide.CLIENTBOUND) {
+            return;
+        }
         try {
             // TRUE RusherHack implementation - modifies packet fields directly
             TrueRusherHackSpoofer.onPacketSend(packet);
@@ -36,4 +60,22 @@ public class ClientConnectionMixin {
             // Ignore errors to prevent crashes
         }
     }
+
+    /**
+     * Pipeline-level engines (netty) install/arm their handlers before the new state starts decoding.
+     * Only on the client's own connection: S2C frames inbound, C2S frames outbound
+     */
+    @Inject(method = "transitionInbound", at = @At("HEAD"), require = 0)
+    private void onTransitionInbound(NetworkState<?> state, PacketListener packetListener, CallbackInfo ci) {
+        if (this.side == NetworkSide.CLIENTBOUND && state.side() == NetworkSide.CLIENTBOUND) {
+            CoordinateTransforms.active().onTransition(this.channel, state.id(), true);
+        }
+    }
+
+    @Inject(method = "transitionOutbound", at = @At("HEAD"), require = 0)
+    private void onTransitionOutbound(NetworkState<?> newState, CallbackInfo ci) {
+        if (this.side == NetworkSide.CLIENTBOUND && newState.side() == NetworkSide.SERVERBOUND) {
+            CoordinateTransforms.active().onTransition(this.channel, newState.id(), false);
+        }
+    }
 }
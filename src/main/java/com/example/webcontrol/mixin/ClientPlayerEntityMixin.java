@@ -1,6 +1,7 @@
 package com.example.webcontrol.mixin;
 
-import com.example.webcontrol.spoof.SimpleCoordSpoofer;
+import com.example.webcontrol.spoof.ClientPlayerMarker;
+import com.example.webcontrol.spoof.TrueRusherHackSpoofer;
 import net.minecraft.client.network.ClientPlayerEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -14,13 +15,22 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(ClientPlayerEntity.class)
 public class ClientPlayerEntityMixin {
 
+    /**
+     * Mark the local player once, EntityMixin then spoofs its position getters
+     * without looking up MinecraftClient on every call
+     */
+    @Inject(method = "<init>", at = @At("TAIL"))
+    private void markClientPlayer(CallbackInfo ci) {
+        ((ClientPlayerMarker) this).webcontrol$markClientPlayer();
+    }
+
     /**
      * Intercept sendMovementPackets() to log when movement packets are sent
      * This helps us understand when the player position is being used
      */
     @Inject(method = "sendMovementPackets", at = @At("HEAD"))
     private void onSendMovementPackets(CallbackInfo ci) {
-        if (SimpleCoordSpoofer.getCurrentMode() == SimpleCoordSpoofer.SpoofMode.OFFSET) {
+        if (TrueRusherHackSpoofer.getCurrentMode() == TrueRusherHackSpoofer.SpoofMode.OFFSET) {
             // Log that movement packets are being sent
             // This will help us see when the coordinate spoofing is active
         }
@@ -1,10 +1,22 @@
 package com.example.webcontrol.mixin;
 
+import com.example.webcontrol.gui.CoordinateFormatter;
+import com.example.webcontrol.spoof.CoordSpoofManager;
+import com.example.webcontrol.spoof.SpoofGuard;
+import com.example.webcontrol.spoof.SpoofState;
+import com.example.webcontrol.spoof.SpoofedPosition;
+import com.example.webcontrol.spoof.SpoofedPositionCache;
 import com.example.webcontrol.spoof.TrueRusherHackSpoofer;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.hud.DebugHud;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.hit.HitResult;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
@@ -14,10 +26,66 @@ import java.util.List;
 
 @Mixin(DebugHud.class)
 public class DebugHudMixin {
+    // Slot indices of the XYZ/Block/Chunk lines, found once per layout (-1 = line not present)
+    @Unique
+    private int webcontrol$layoutSize = -1;
+    @Unique
+    private int webcontrol$xyzSlot = -1;
+    @Unique
+    private int webcontrol$blockSlot = -1;
+    @Unique
+    private int webcontrol$chunkSlot = -1;
+
+    // Replacement lines of the last spoofed position; SpoofedPositionCache returns the same
+    // instance while the position and state are unchanged, so identity is enough
+    @Unique
+    private SpoofedPosition webcontrol$linesFor;
+    @Unique
+    private String webcontrol$xyzLine;
+    @Unique
+    private String webcontrol$blockLine;
+    @Unique
+    private String webcontrol$chunkLine;
+
+    // Reused for the replaced lines, getLeftText/getRightText run on the render thread only
+    @Unique
+    private final StringBuilder webcontrol$lineBuffer = new StringBuilder(64);
+
+    // Right text (RENDER mode): targeted block/fluid lines, same slot caching as above
+    @Unique
+    private static final String TARGETED_BLOCK = Formatting.UNDERLINE + "Targeted Block: ";
+    @Unique
+    private static final String TARGETED_FLUID = Formatting.UNDERLINE + "Targeted Fluid: ";
+
+    @Shadow
+    private HitResult blockHit;
+    @Shadow
+    private HitResult fluidHit;
+
+    @Unique
+    private int webcontrol$rightLayoutSize = -1;
+    @Unique
+    private int webcontrol$targetedBlockSlot = -1;
+    @Unique
+    private int webcontrol$targetedFluidSlot = -1;
+    @Unique
+    private long webcontrol$targetEpoch = -1;
+    @Unique
+    private long webcontrol$targetedBlockKey;
+    @Unique
+    private String webcontrol$targetedBlockLine;
+    @Unique
+    private long webcontrol$targetedFluidKey;
+    @Unique
+    private String webcontrol$targetedFluidLine;
     
     @Inject(method = "getLeftText", at = @At("RETURN"), cancellable = true)
     private void modifyLeftText(CallbackInfoReturnable<List<String>> cir) {
-        if (TrueRusherHackSpoofer.getCurrentMode() == TrueRusherHackSpoofer.SpoofMode.VANILLA) {
+        if (!SpoofGuard.isActive()) {
+            return;
+        }
+        SpoofState state = TrueRusherHackSpoofer.getState(); // один снимок на кадр
+        if (!state.isActive()) {
             return; // Don't modify in vanilla mode
         }
         
@@ -30,27 +98,19 @@ public class DebugHudMixin {
         
         // Simple coordinate spoofing (like RusherHack plugin) - no complex modes
         else {
-            Vec3d playerPos = client.player.getPos();
-            Vec3d spoofedPos = TrueRusherHackSpoofer.getSpoofedPosition(playerPos);
-
-            // Replace coordinate lines with spoofed values
-            for (int i = 0; i < lines.size(); i++) {
-                String line = lines.get(i);
-                if (line.startsWith("XYZ:")) {
-                    lines.set(i, String.format("XYZ: %.3f / %.3f / %.3f",
-                        spoofedPos.x, spoofedPos.y, spoofedPos.z));
-                } else if (line.contains("Block:")) {
-                    lines.set(i, String.format("Block: %d %d %d",
-                        (int)Math.floor(spoofedPos.x), (int)Math.floor(spoofedPos.y), (int)Math.floor(spoofedPos.z)));
-                } else if (line.contains("Chunk:")) {
-                    int chunkX = (int)Math.floor(spoofedPos.x) >> 4;
-                    int chunkZ = (int)Math.floor(spoofedPos.z) >> 4;
-                    int localX = (int)Math.floor(spoofedPos.x) & 15;
-                    int localZ = (int)Math.floor(spoofedPos.z) & 15;
-                    lines.set(i, String.format("Chunk: %d %d %d in %d %d",
-                        localX, (int)Math.floor(spoofedPos.y), localZ, chunkX, chunkZ));
-                }
+            // Block/chunk values come with the cached position, shared with the HUD and EntityMixin
+            SpoofedPosition spoofed = SpoofedPositionCache.get(state, CoordSpoofManager.getRawPos(client.player));
+            if (spoofed != webcontrol$linesFor) {
+                webcontrol$formatLines(spoofed);
+            }
+
+            // Known slots are only re-checked; a full scan runs when the layout changed
+            if (lines.size() != webcontrol$layoutSize || !webcontrol$slotsMatch(lines)) {
+                webcontrol$findSlots(lines);
             }
+            if (webcontrol$xyzSlot >= 0) lines.set(webcontrol$xyzSlot, webcontrol$xyzLine);
+            if (webcontrol$blockSlot >= 0) lines.set(webcontrol$blockSlot, webcontrol$blockLine);
+            if (webcontrol$chunkSlot >= 0) lines.set(webcontrol$chunkSlot, webcontrol$chunkLine);
         }
 
         // No biome spoofing in simple mode
@@ -58,6 +118,144 @@ public class DebugHudMixin {
         cir.setReturnValue(lines);
     }
     
+    @Unique
+    private boolean webcontrol$slotsMatch(List<String> lines) {
+        return webcontrol$slotMatches(lines, webcontrol$xyzSlot, "XYZ:", true) &&
+               webcontrol$slotMatches(lines, webcontrol$blockSlot, "Block:", false) &&
+               webcontrol$slotMatches(lines, webcontrol$chunkSlot, "Chunk:", false);
+    }
+
+    @Unique
+    private static boolean webcontrol$slotMatches(List<String> lines, int slot, String marker, boolean prefix) {
+        if (slot < 0) {
+            return true; // line was not present in this layout
+        }
+        String line = lines.get(slot);
+        return prefix ? line.startsWith(marker) : line.contains(marker);
+    }
+
+    @Unique
+    private void webcontrol$findSlots(List<String> lines) {
+        webcontrol$xyzSlot = -1;
+        webcontrol$blockSlot = -1;
+        webcontrol$chunkSlot = -1;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (webcontrol$xyzSlot < 0 && line.startsWith("XYZ:")) {
+                webcontrol$xyzSlot = i;
+            } else if (webcontrol$blockSlot < 0 && line.contains("Block:")) {
+                webcontrol$blockSlot = i;
+            } else if (webcontrol$chunkSlot < 0 && line.contains("Chunk:")) {
+                webcontrol$chunkSlot = i;
+            }
+        }
+        webcontrol$layoutSize = lines.size();
+    }
+
+    @Unique
+    private void webcontrol$formatLines(SpoofedPosition spoofed) {
+        Vec3d spoofedPos = spoofed.pos();
+        BlockPos spoofedBlock = spoofed.blockPos();
+        StringBuilder sb = webcontrol$lineBuffer;
+
+        sb.setLength(0);
+        sb.append("XYZ: ");
+        CoordinateFormatter.appendFixed(sb, spoofedPos.x, 3).append(" / ");
+        CoordinateFormatter.appendFixed(sb, spoofedPos.y, 3).append(" / ");
+        CoordinateFormatter.appendFixed(sb, spoofedPos.z, 3);
+        webcontrol$xyzLine = sb.toString();
+
+        sb.setLength(0);
+        sb.append("Block: ").append(spoofedBlock.getX()).append(' ')
+            .append(spoofedBlock.getY()).append(' ').append(spoofedBlock.getZ());
+        webcontrol$blockLine = sb.toString();
+
+        sb.setLength(0);
+        sb.append("Chunk: ").append(spoofed.localX()).append(' ').append(spoofedBlock.getY())
+            .append(' ').append(spoofed.localZ()).append(" in ")
+            .append(spoofed.chunkX()).append(' ').append(spoofed.chunkZ());
+        webcontrol$chunkLine = sb.toString();
+
+        webcontrol$linesFor = spoofed;
+    }
+
+    /**
+     * RENDER mode: the targeted block/fluid lines still show world coordinates, offset them too.
+     * In OFFSET mode the world itself is shifted, so these lines are already spoofed.
+     *
+     * The targeted positions come from the hit results DebugHud already holds, nothing is parsed;
+     * slots are cached like the left-text ones and a line is only rebuilt when its position or the
+     * state epoch changed.
+     */
+    @Inject(method = "getRightText", at = @At("RETURN"))
+    private void modifyRightText(CallbackInfoReturnable<List<String>> cir) {
+        if (!SpoofGuard.isActive()) {
+            return;
+        }
+        SpoofState state = TrueRusherHackSpoofer.getState();
+        if (state.mode() != TrueRusherHackSpoofer.SpoofMode.RENDER) {
+            return;
+        }
+
+        List<String> lines = cir.getReturnValue();
+        if (lines.size() != webcontrol$rightLayoutSize || !webcontrol$targetSlotsMatch(lines)) {
+            webcontrol$findTargetSlots(lines);
+        }
+        if (state.epoch() != webcontrol$targetEpoch) {
+            // Other offset or zones - both lines must be rebuilt
+            webcontrol$targetedBlockLine = null;
+            webcontrol$targetedFluidLine = null;
+            webcontrol$targetEpoch = state.epoch();
+        }
+
+        if (webcontrol$targetedBlockSlot >= 0 && blockHit instanceof BlockHitResult hit) {
+            long key = hit.getBlockPos().asLong();
+            if (webcontrol$targetedBlockLine == null || key != webcontrol$targetedBlockKey) {
+                webcontrol$targetedBlockLine = webcontrol$formatTarget(TARGETED_BLOCK, state, hit.getBlockPos());
+                webcontrol$targetedBlockKey = key;
+            }
+            lines.set(webcontrol$targetedBlockSlot, webcontrol$targetedBlockLine);
+        }
+        if (webcontrol$targetedFluidSlot >= 0 && fluidHit instanceof BlockHitResult hit) {
+            long key = hit.getBlockPos().asLong();
+            if (webcontrol$targetedFluidLine == null || key != webcontrol$targetedFluidKey) {
+                webcontrol$targetedFluidLine = webcontrol$formatTarget(TARGETED_FLUID, state, hit.getBlockPos());
+                webcontrol$targetedFluidKey = key;
+            }
+            lines.set(webcontrol$targetedFluidSlot, webcontrol$targetedFluidLine);
+        }
+    }
+
+    @Unique
+    private boolean webcontrol$targetSlotsMatch(List<String> lines) {
+        return webcontrol$slotMatches(lines, webcontrol$targetedBlockSlot, TARGETED_BLOCK, true) &&
+               webcontrol$slotMatches(lines, webcontrol$targetedFluidSlot, TARGETED_FLUID, true);
+    }
+
+    @Unique
+    private void webcontrol$findTargetSlots(List<String> lines) {
+        webcontrol$targetedBlockSlot = -1;
+        webcontrol$targetedFluidSlot = -1;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (webcontrol$targetedBlockSlot < 0 && line.startsWith(TARGETED_BLOCK)) {
+                webcontrol$targetedBlockSlot = i;
+            } else if (webcontrol$targetedFluidSlot < 0 && line.startsWith(TARGETED_FLUID)) {
+                webcontrol$targetedFluidSlot = i;
+            }
+        }
+        webcontrol$rightLayoutSize = lines.size();
+    }
+
+    @Unique
+    private String webcontrol$formatTarget(String label, SpoofState state, BlockPos realPos) {
+        BlockPos spoofed = state.spoof(realPos);
+        StringBuilder sb = webcontrol$lineBuffer;
+        sb.setLength(0);
+        sb.append(label).append(spoofed.getX()).append(", ").append(spoofed.getY()).append(", ").append(spoofed.getZ());
+        return sb.toString();
+    }
+
     @Inject(method = "shouldShowDebugHud", at = @At("HEAD"))
     private void onDebugHudToggle(CallbackInfoReturnable<Boolean> cir) {
         // Trigger F3 opened event for custom mode
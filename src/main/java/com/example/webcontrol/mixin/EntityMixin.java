@@ -1,99 +1,98 @@
 package com.example.webcontrol.mixin;
 
+import com.example.webcontrol.spoof.ClientPlayerMarker;
+import com.example.webcontrol.spoof.SpoofGuard;
+import com.example.webcontrol.spoof.SpoofedPositionCache;
 import com.example.webcontrol.spoof.TrueRusherHackSpoofer;
-import net.minecraft.client.MinecraftClient;
+import com.llamalad7.mixinextras.injector.ModifyReturnValue;
 import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 /**
  * Mixin to intercept Entity position methods
  * This ensures that when other mods call entity.getX/Y/Z() on the player entity,
  * they get spoofed coordinates
+ *
+ * The getters run for every entity on every tick and frame: @ModifyReturnValue needs no
+ * CallbackInfoReturnable, and non-player entities only read the webcontrol$clientPlayer flag.
+ * Outside OFFSET mode SpoofGuard folds to a constant and the handlers return right away;
+ * RENDER mode never changes what the getters return.
  */
 @Mixin(Entity.class)
-public class EntityMixin {
+public class EntityMixin implements ClientPlayerMarker {
+
+    @Shadow
+    private Vec3d pos;
+
+    @Unique
+    private boolean webcontrol$clientPlayer;
+
+    @Override
+    public void webcontrol$markClientPlayer() {
+        this.webcontrol$clientPlayer = true;
+    }
 
     /**
      * Intercept getX() calls for the player entity only
      */
-    @Inject(method = "getX", at = @At("RETURN"), cancellable = true)
-    private void spoofEntityGetX(CallbackInfoReturnable<Double> cir) {
+    @ModifyReturnValue(method = "getX", at = @At("RETURN"))
+    private double spoofEntityGetX(double realX) {
         // Only spoof coordinates for the client player
-        if (isClientPlayer() && TrueRusherHackSpoofer.getCurrentMode() == TrueRusherHackSpoofer.SpoofMode.OFFSET) {
-            double realX = cir.getReturnValue();
-            double spoofedX = TrueRusherHackSpoofer.getSpoofedX(realX);
-            cir.setReturnValue(spoofedX);
+        if (!SpoofGuard.rewritesPackets() || !this.webcontrol$clientPlayer) {
+            return realX;
         }
+        return TrueRusherHackSpoofer.getState().spoofX(realX);
     }
 
     /**
      * Intercept getY() calls for the player entity only
      */
-    @Inject(method = "getY", at = @At("RETURN"), cancellable = true)
-    private void spoofEntityGetY(CallbackInfoReturnable<Double> cir) {
-        // Only spoof coordinates for the client player
-        if (isClientPlayer() && TrueRusherHackSpoofer.getCurrentMode() == TrueRusherHackSpoofer.SpoofMode.OFFSET) {
-            double realY = cir.getReturnValue();
-            double spoofedY = TrueRusherHackSpoofer.getSpoofedY(realY);
-            cir.setReturnValue(spoofedY);
+    @ModifyReturnValue(method = "getY", at = @At("RETURN"))
+    private double spoofEntityGetY(double realY) {
+        if (!SpoofGuard.rewritesPackets() || !this.webcontrol$clientPlayer) {
+            return realY;
         }
+        return TrueRusherHackSpoofer.getState().spoofY(realY);
     }
 
     /**
      * Intercept getZ() calls for the player entity only
      */
-    @Inject(method = "getZ", at = @At("RETURN"), cancellable = true)
-    private void spoofEntityGetZ(CallbackInfoReturnable<Double> cir) {
-        // Only spoof coordinates for the client player
-        if (isClientPlayer() && TrueRusherHackSpoofer.getCurrentMode() == TrueRusherHackSpoofer.SpoofMode.OFFSET) {
-            double realZ = cir.getReturnValue();
-            double spoofedZ = TrueRusherHackSpoofer.getSpoofedZ(realZ);
-            cir.setReturnValue(spoofedZ);
+    @ModifyReturnValue(method = "getZ", at = @At("RETURN"))
+    private double spoofEntityGetZ(double realZ) {
+        if (!SpoofGuard.rewritesPackets() || !this.webcontrol$clientPlayer) {
+            return realZ;
         }
+        return TrueRusherHackSpoofer.getState().spoofZ(realZ);
     }
 
     /**
      * Intercept getPos() calls for the player entity only
      */
-    @Inject(method = "getPos", at = @At("RETURN"), cancellable = true)
-    private void spoofEntityGetPos(CallbackInfoReturnable<net.minecraft.util.math.Vec3d> cir) {
-        // Only spoof coordinates for the client player
-        if (isClientPlayer() && TrueRusherHackSpoofer.getCurrentMode() == TrueRusherHackSpoofer.SpoofMode.OFFSET) {
-            net.minecraft.util.math.Vec3d realPos = cir.getReturnValue();
-            net.minecraft.util.math.Vec3d spoofedPos = TrueRusherHackSpoofer.getSpoofedPosition(realPos);
-            cir.setReturnValue(spoofedPos);
+    @ModifyReturnValue(method = "getPos", at = @At("RETURN"))
+    private Vec3d spoofEntityGetPos(Vec3d realPos) {
+        if (!SpoofGuard.rewritesPackets() || !this.webcontrol$clientPlayer) {
+            return realPos;
         }
+        // Cached per position and epoch: repeated calls in a frame/tick allocate nothing
+        return SpoofedPositionCache.get(realPos).pos();
     }
 
     /**
      * Intercept getBlockPos() calls for the player entity only
      */
-    @Inject(method = "getBlockPos", at = @At("RETURN"), cancellable = true)
-    private void spoofEntityGetBlockPos(CallbackInfoReturnable<net.minecraft.util.math.BlockPos> cir) {
-        // Only spoof coordinates for the client player
-        if (isClientPlayer() && TrueRusherHackSpoofer.getCurrentMode() == TrueRusherHackSpoofer.SpoofMode.OFFSET) {
-            net.minecraft.util.math.BlockPos realPos = cir.getReturnValue();
-            net.minecraft.util.math.BlockPos spoofedPos = new net.minecraft.util.math.BlockPos(
-                (int) TrueRusherHackSpoofer.getSpoofedX(realPos.getX()),
-                (int) TrueRusherHackSpoofer.getSpoofedY(realPos.getY()),
-                (int) TrueRusherHackSpoofer.getSpoofedZ(realPos.getZ())
-            );
-            cir.setReturnValue(spoofedPos);
-        }
-    }
-
-    /**
-     * Check if this entity is the client player
-     */
-    private boolean isClientPlayer() {
-        try {
-            MinecraftClient client = MinecraftClient.getInstance();
-            return client != null && client.player != null && (Object) this == client.player;
-        } catch (Exception e) {
-            return false;
+    @ModifyReturnValue(method = "getBlockPos", at = @At("RETURN"))
+    private BlockPos spoofEntityGetBlockPos(BlockPos realPos) {
+        if (!SpoofGuard.rewritesPackets() || !this.webcontrol$clientPlayer) {
+            return realPos;
         }
+        // blockPos is floored from pos, so the entry keyed on the raw pos serves both getters
+        // and getBlockPos() stays the floor of the spoofed getPos()
+        return SpoofedPositionCache.get(this.pos).blockPos();
     }
 }
@@ -1,6 +1,9 @@
 package com.example.webcontrol.mixin;
 
+import com.example.webcontrol.gui.HudCoordinateText;
 import com.example.webcontrol.spoof.CoordSpoofManager;
+import com.example.webcontrol.spoof.SpoofedPosition;
+import com.example.webcontrol.spoof.TrueRusherHackSpoofer;
 import com.example.webcontrol.PanicQuitManager;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
@@ -32,94 +35,47 @@ public class InGameHudMixin {
         int x = 6;
         int y = context.getScaledWindowHeight() - 12;
         
-        // Check if text replacement mode is enabled
-        if (CoordSpoofManager.shouldUseTextReplacement()) {
-            String replacementText = CoordSpoofManager.getTextCoordinates();
-            String displayText = replacementText != null && !replacementText.isEmpty() ? replacementText : "HIDDEN";
-            
-            // Render replacement text in red color for protection mode
-            context.drawTextWithShadow(client.textRenderer, 
-                Text.literal(displayText).styled(style -> style.withColor(0xFF5555)), 
-                x, y, 0xFFFFFF);
-        } else {
-            // SECURITY FIX: Get player position safely, use fallback if player is null (e.g., in queue)
-            Vec3d realPos = client.player != null ? client.player.getPos() : new Vec3d(0, 0, 0);
-            Vec3d displayPos;
-
+        // One spoofed position per frame, shared by the text and the background below
+        SpoofedPosition spoofed = null;
+        Vec3d displayPos = null;
+        if (!CoordSpoofManager.shouldUseTextReplacement()) {
+            Vec3d realPos = CoordSpoofManager.getRawPos(client.player);
+            spoofed = CoordSpoofManager.getSpoofedPositionInfo(realPos);
+            displayPos = spoofed.pos();
             // Apply spoofing if enabled (including rapid changes for HUD)
-            if (CoordSpoofManager.getCurrentMode() != CoordSpoofManager.SpoofMode.VANILLA) {
-                if (CoordSpoofManager.isRapidHudMode()) {
-                    // Use rapidly changing coordinates for HUD
-                    Vec3d rapidCoords = CoordSpoofManager.getRapidlyChangingCoords();
-                    displayPos = rapidCoords != null ? rapidCoords : CoordSpoofManager.getSpoofedPosition(realPos);
-                } else {
-                    displayPos = CoordSpoofManager.getSpoofedPosition(realPos);
+            if (CoordSpoofManager.getCurrentMode() != TrueRusherHackSpoofer.SpoofMode.VANILLA && CoordSpoofManager.isRapidHudMode()) {
+                // Use rapidly changing coordinates for HUD
+                Vec3d rapidCoords = CoordSpoofManager.getRapidlyChangingCoords();
+                if (rapidCoords != null) {
+                    displayPos = rapidCoords;
+                    spoofed = spoofed.withPos(rapidCoords);
                 }
-            } else {
-                displayPos = realPos;
             }
-            
-            // Format coordinates in RusherHack style: X: 1,347.47, Y: 79.00, Z: 454.87, [X: 168, Z: 56.86]
-            String xCoord = String.format("%.2f", displayPos.x);
-            String yCoord = String.format("%.2f", displayPos.y);
-            String zCoord = String.format("%.2f", displayPos.z);
-            
-            // Calculate chunk coordinates
-            int chunkX = (int) Math.floor(displayPos.x) >> 4;
-            int chunkZ = (int) Math.floor(displayPos.z) >> 4;
-            double chunkLocalZ = displayPos.z - (chunkZ * 16);
-            
-            // Create styled text with RusherHack colors (light blue for labels, white for values)
-            Text styledText = Text.literal("X: ").styled(style -> style.withColor(0x55FFFF)) // Light blue
-                .append(Text.literal(xCoord).styled(style -> style.withColor(0xFFFFFF))) // White
-                .append(Text.literal(", Y: ").styled(style -> style.withColor(0x55FFFF))) // Light blue
-                .append(Text.literal(yCoord).styled(style -> style.withColor(0xFFFFFF))) // White
-                .append(Text.literal(", Z: ").styled(style -> style.withColor(0x55FFFF))) // Light blue
-                .append(Text.literal(zCoord).styled(style -> style.withColor(0xFFFFFF))) // White
-                .append(Text.literal(", [X: ").styled(style -> style.withColor(0x55FFFF))) // Light blue
-                .append(Text.literal(String.valueOf(chunkX)).styled(style -> style.withColor(0xFFFFFF))) // White
-                .append(Text.literal(", Z: ").styled(style -> style.withColor(0x55FFFF))) // Light blue
-                .append(Text.literal(String.format("%.2f", chunkLocalZ)).styled(style -> style.withColor(0xFFFFFF))) // White
-                .append(Text.literal("]").styled(style -> style.withColor(0x55FFFF))); // Light blue
-            
-            // Render with shadow for better readability
-            context.drawTextWithShadow(client.textRenderer, styledText, x, y, 0xFFFFFF);
         }
-        
+
+        // Cached line: Text and width are rebuilt only when a displayed value changes
+        HudCoordinateText.Line line;
+        if (CoordSpoofManager.shouldUseTextReplacement()) {
+            // Render replacement text in red color for protection mode
+            line = HudCoordinateText.replacement(client.textRenderer, CoordSpoofManager.getTextCoordinates());
+        } else {
+            // RusherHack style: X: 1,347.47, Y: 79.00, Z: 454.87, [X: 168, Z: 56.86]
+            line = HudCoordinateText.coordinates(client.textRenderer, displayPos, spoofed);
+        }
+
+        // Render with shadow for better readability
+        context.drawTextWithShadow(client.textRenderer, line.text(), x, y, 0xFFFFFF);
+
         // Add a subtle background for better readability when spoofing is active
-        if (CoordSpoofManager.getCurrentMode() != CoordSpoofManager.SpoofMode.VANILLA || 
+        if (CoordSpoofManager.getCurrentMode() != TrueRusherHackSpoofer.SpoofMode.VANILLA || 
             CoordSpoofManager.shouldUseTextReplacement()) {
-            
-            // Calculate text width for background
-            String fullText;
-            if (CoordSpoofManager.shouldUseTextReplacement()) {
-                String replacementText = CoordSpoofManager.getTextCoordinates();
-                fullText = replacementText != null ? replacementText : "HIDDEN";
-            } else {
-                // SECURITY FIX: Use safe position access for background calculation
-                Vec3d safePlayerPos = client.player != null ? client.player.getPos() : new Vec3d(0, 0, 0);
-                Vec3d displayPos = CoordSpoofManager.getCurrentMode() != CoordSpoofManager.SpoofMode.VANILLA ?
-                    (CoordSpoofManager.isRapidChangeMode() ?
-                        (CoordSpoofManager.getRapidlyChangingCoords() != null ? CoordSpoofManager.getRapidlyChangingCoords() : CoordSpoofManager.getSpoofedPosition(safePlayerPos)) :
-                        CoordSpoofManager.getSpoofedPosition(safePlayerPos)) :
-                    safePlayerPos;
-                
-                int chunkX = (int) Math.floor(displayPos.x) >> 4;
-                double chunkLocalZ = displayPos.z - ((int) Math.floor(displayPos.z) >> 4) * 16;
-                fullText = String.format("X: %.2f, Y: %.2f, Z: %.2f, [X: %d, Z: %.2f]", 
-                    displayPos.x, displayPos.y, displayPos.z, chunkX, chunkLocalZ);
-            }
-            
-            int textWidth = client.textRenderer.getWidth(fullText);
             int textHeight = client.textRenderer.fontHeight;
             
             // Draw background rectangle with transparency
-            context.fill(x - 2, y - 2, x + textWidth + 2, y + textHeight + 2, 0x80000000);
+            context.fill(x - 2, y - 2, x + line.width() + 2, y + textHeight + 2, 0x80000000);
         }
         
-        // Update panic quit status
-        PanicQuitManager.updateRealCoordsStatus();
-        
+        // Panic quit status is updated on spoof state changes (PanicQuitManager), not per frame
         // Render panic quit indicator if enabled
         if (PanicQuitManager.isPanicQuitEnabled()) {
             renderPanicQuitIndicator(context, client);
@@ -0,0 +1,93 @@
+package com.example.webcontrol.mixin;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.fabricmc.loader.api.FabricLoader;
+import org.objectweb.asm.tree.ClassNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spongepowered.asm.mixin.extensibility.IMixinConfigPlugin;
+import org.spongepowered.asm.mixin.extensibility.IMixinInfo;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Skips the coordinate spoofing hooks when webcontrol.json says spoofing is off at launch.
+ *
+ * Runs before any Minecraft class is loaded, so the config is read directly with Gson instead of
+ * through WebControlConfig (which needs MinecraftClient). A missing or broken config keeps all
+ * hooks, because the default mode is OFFSET. Enabling spoofing after the hooks were skipped
+ * needs a restart; TrueRusherHackSpoofer refuses the mode change and the API reports it.
+ */
+public class WebControlMixinPlugin implements IMixinConfigPlugin {
+    private static final Logger LOGGER = LoggerFactory.getLogger("webcontrol-mixins");
+
+    private static final String ACCESSOR_PACKAGE = "com.example.webcontrol.mixin.accessor.";
+    private static final Set<String> SPOOF_MIXINS = Set.of(
+        "com.example.webcontrol.mixin.EntityMixin",
+        "com.example.webcontrol.mixin.ClientConnectionMixin",
+        "com.example.webcontrol.mixin.ClientPlayerEntityMixin",
+        "com.example.webcontrol.mixin.DebugHudMixin"
+    );
+
+    private boolean spoofHooksEnabled = true;
+
+    @Override
+    public void onLoad(String mixinPackage) {
+        spoofHooksEnabled = readSpoofHooksEnabled(FabricLoader.getInstance().getConfigDir().resolve("webcontrol.json"));
+        if (!spoofHooksEnabled) {
+            LOGGER.info("Coordinate spoofing is disabled in config - spoofing hooks will not be applied this session");
+        }
+    }
+
+    private static boolean readSpoofHooksEnabled(Path configPath) {
+        if (!Files.exists(configPath)) {
+            return true;
+        }
+
+        try (Reader reader = Files.newBufferedReader(configPath)) {
+            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+            if (json.has("skipHooksWhenDisabled") && !json.get("skipHooksWhenDisabled").getAsBoolean()) {
+                return true;
+            }
+            return !json.has("spoofMode") || !"VANILLA".equalsIgnoreCase(json.get("spoofMode").getAsString());
+        } catch (Exception e) {
+            LOGGER.warn("Failed to read config for mixin selection, applying all hooks: " + e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public boolean shouldApplyMixin(String targetClassName, String mixinClassName) {
+        if (spoofHooksEnabled) {
+            return true;
+        }
+        return !SPOOF_MIXINS.contains(mixinClassName) && !mixinClassName.startsWith(ACCESSOR_PACKAGE);
+    }
+
+    @Override
+    public String getRefMapperConfig() {
+        return null;
+    }
+
+    @Override
+    public void acceptTargets(Set<String> myTargets, Set<String> otherTargets) {
+    }
+
+    @Override
+    public List<String> getMixins() {
+        return null;
+    }
+
+    @Override
+    public void preApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+    }
+
+    @Override
+    public void postApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+    }
+}
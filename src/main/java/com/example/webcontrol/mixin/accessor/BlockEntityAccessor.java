@@ -0,0 +1,19 @@
+package com.example.webcontrol.mixin.accessor;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin for BlockEntity
+ * Block entities of a moved chunk are re-keyed under their new position
+ */
+@Mixin(BlockEntity.class)
+public interface BlockEntityAccessor {
+
+    @Accessor("pos")
+    @Mutable
+    void setPos(BlockPos pos);
+}
@@ -0,0 +1,19 @@
+package com.example.webcontrol.mixin.accessor;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin for Chunk
+ * Sections, heightmaps and palettes are chunk-relative, only the chunk position moves
+ */
+@Mixin(Chunk.class)
+public interface ChunkAccessor {
+
+    @Accessor("pos")
+    @Mutable
+    void setPos(ChunkPos pos);
+}
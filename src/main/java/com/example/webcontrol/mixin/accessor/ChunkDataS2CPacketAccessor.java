@@ -0,0 +1,22 @@
+package com.example.webcontrol.mixin.accessor;
+
+import net.minecraft.network.packet.s2c.play.ChunkDataS2CPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin for ChunkDataS2CPacket to shift the chunk column position
+ * Getters already exist on the packet (getChunkX/getChunkZ)
+ */
+@Mixin(ChunkDataS2CPacket.class)
+public interface ChunkDataS2CPacketAccessor {
+
+    @Accessor("chunkX")
+    @Mutable
+    void setChunkX(int chunkX);
+
+    @Accessor("chunkZ")
+    @Mutable
+    void setChunkZ(int chunkZ);
+}
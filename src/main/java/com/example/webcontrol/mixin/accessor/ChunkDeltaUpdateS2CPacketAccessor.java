@@ -0,0 +1,22 @@
+package com.example.webcontrol.mixin.accessor;
+
+import net.minecraft.network.packet.s2c.play.ChunkDeltaUpdateS2CPacket;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin for ChunkDeltaUpdateS2CPacket (multi-block update)
+ * Block positions inside are packed relative to the section, so only the section needs to move
+ */
+@Mixin(ChunkDeltaUpdateS2CPacket.class)
+public interface ChunkDeltaUpdateS2CPacketAccessor {
+
+    @Accessor("sectionPos")
+    ChunkSectionPos getSectionPos();
+
+    @Accessor("sectionPos")
+    @Mutable
+    void setSectionPos(ChunkSectionPos sectionPos);
+}
@@ -0,0 +1,22 @@
+package com.example.webcontrol.mixin.accessor;
+
+import net.minecraft.network.packet.s2c.play.ChunkRenderDistanceCenterS2CPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin for ChunkRenderDistanceCenterS2CPacket
+ * The client chunk map drops chunks outside its radius, so the center must move with the chunks
+ */
+@Mixin(ChunkRenderDistanceCenterS2CPacket.class)
+public interface ChunkRenderDistanceCenterS2CPacketAccessor {
+
+    @Accessor("chunkX")
+    @Mutable
+    void setChunkX(int chunkX);
+
+    @Accessor("chunkZ")
+    @Mutable
+    void setChunkZ(int chunkZ);
+}
@@ -0,0 +1,16 @@
+package com.example.webcontrol.mixin.accessor;
+
+import net.minecraft.client.world.ClientChunkManager;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin for ClientChunkManager
+ * ClientChunkMap is a private inner class, so the map is returned as Object and cast to ClientChunkMapAccessor
+ */
+@Mixin(ClientChunkManager.class)
+public interface ClientChunkManagerAccessor {
+
+    @Accessor("chunks")
+    Object getChunkMap();
+}
@@ -0,0 +1,31 @@
+package com.example.webcontrol.mixin.accessor;
+
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Accessor mixin for ClientChunkManager.ClientChunkMap (ring buffer of loaded chunks around the center)
+ * Used to move loaded chunks to new slots when the offset changes by whole chunks
+ */
+@Mixin(targets = "net.minecraft.client.world.ClientChunkManager$ClientChunkMap")
+public interface ClientChunkMapAccessor {
+
+    @Accessor("chunks")
+    AtomicReferenceArray<WorldChunk> getChunks();
+
+    @Accessor("centerChunkX")
+    int getCenterChunkX();
+
+    @Accessor("centerChunkZ")
+    int getCenterChunkZ();
+
+    @Invoker("getIndex")
+    int invokeGetIndex(int chunkX, int chunkZ);
+
+    @Invoker("isInRadius")
+    boolean invokeIsInRadius(int chunkX, int chunkZ);
+}
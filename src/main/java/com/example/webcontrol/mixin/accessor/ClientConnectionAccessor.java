@@ -0,0 +1,17 @@
+package com.example.webcontrol.mixin.accessor;
+
+import io.netty.channel.Channel;
+import net.minecraft.network.ClientConnection;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin for ClientConnection
+ * The offset re-sync publishes the new inbound offset on the channel's event loop
+ */
+@Mixin(ClientConnection.class)
+public interface ClientConnectionAccessor {
+
+    @Accessor("channel")
+    Channel getChannel();
+}
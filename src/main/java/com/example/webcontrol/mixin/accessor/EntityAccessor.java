@@ -0,0 +1,18 @@
+package com.example.webcontrol.mixin.accessor;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.Vec3d;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin for Entity
+ * getPos()/getX() of the client player return spoofed values through EntityMixin,
+ * the offset re-sync needs the position the world actually uses
+ */
+@Mixin(Entity.class)
+public interface EntityAccessor {
+
+    @Accessor("pos")
+    Vec3d getRawPos();
+}
@@ -0,0 +1,18 @@
+package com.example.webcontrol.mixin.accessor;
+
+import net.minecraft.network.packet.s2c.play.UnloadChunkS2CPacket;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin for UnloadChunkS2CPacket (record) so unloads hit the shifted chunk
+ */
+@Mixin(UnloadChunkS2CPacket.class)
+public interface UnloadChunkS2CPacketAccessor {
+
+    @Accessor("pos")
+    @Mutable
+    void setPos(ChunkPos pos);
+}
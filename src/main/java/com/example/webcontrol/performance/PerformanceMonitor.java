@@ -49,16 +49,24 @@ public class PerformanceMonitor {
         try {
             operation.run();
         } finally {
-            long endTime = System.nanoTime();
-            long duration = endTime - startTime;
-            
-            operationTimes.computeIfAbsent(operationName, k -> new AtomicLong(0)).addAndGet(duration);
-            operationCounts.computeIfAbsent(operationName, k -> new AtomicLong(0)).incrementAndGet();
-            
-            // Log if operation takes too long (>1ms)
-            if (duration > 1_000_000) {
-                LOGGER.warn("Slow operation '{}' took {:.2f}ms", operationName, duration / 1_000_000.0);
-            }
+            recordOperation(operationName, System.nanoTime() - startTime);
+        }
+    }
+    
+    /**
+     * Record an operation timed by the caller (hot paths that cannot afford a Runnable)
+     */
+    public static void recordOperation(String operationName, long duration) {
+        if (!monitoringEnabled) {
+            return;
+        }
+        
+        operationTimes.computeIfAbsent(operationName, k -> new AtomicLong(0)).addAndGet(duration);
+        operationCounts.computeIfAbsent(operationName, k -> new AtomicLong(0)).incrementAndGet();
+        
+        // Log if operation takes too long (>1ms)
+        if (duration > 1_000_000) {
+            LOGGER.warn("Slow operation '{}' took {:.2f}ms", operationName, duration / 1_000_000.0);
         }
     }
     
@@ -0,0 +1,12 @@
+package com.example.webcontrol.spoof;
+
+/**
+ * Rewriter for packets addressed by chunk/section coordinates.
+ *
+ * Deltas are whole chunks, so the payload (block states, light, block entities) stays untouched
+ * because it is stored relative to the chunk. Only valid while the offset is chunk-aligned.
+ */
+@FunctionalInterface
+public interface ChunkPacketRewriter<P> {
+    void rewrite(P packet, int chunkDx, int chunkDz);
+}
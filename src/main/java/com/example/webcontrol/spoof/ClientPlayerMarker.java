@@ -0,0 +1,10 @@
+package com.example.webcontrol.spoof;
+
+/**
+ * Duck interface added to Entity by EntityMixin.
+ * The flag is set once in the ClientPlayerEntity constructor, so the position hooks
+ * only need a field load to skip every other entity.
+ */
+public interface ClientPlayerMarker {
+    void webcontrol$markClientPlayer();
+}
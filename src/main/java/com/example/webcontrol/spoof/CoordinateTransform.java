@@ -0,0 +1,54 @@
+package com.example.webcontrol.spoof;
+
+import io.netty.channel.Channel;
+import net.minecraft.network.NetworkPhase;
+
+/**
+ * Coordinate transform engine.
+ *
+ * Exactly one engine is chosen at startup (config key "spoofEngine") and kept in a static final
+ * field of CoordinateTransforms, so every packet hook calls the same single implementation.
+ * Engines that were not chosen are never instantiated and their classes are never loaded.
+ *
+ * Engines only decide HOW packets are rewritten; the mode and offsets always come from the
+ * SpoofState snapshot passed in by TrueRusherHackSpoofer.
+ */
+public interface CoordinateTransform {
+
+    /**
+     * Short engine id as used in the config ("reflective", "typed", "netty")
+     */
+    String name();
+
+    /**
+     * server -> client: subtract the offset from the packet coordinates
+     * @param traceFields this packet was sampled at PacketTrace.LEVEL_FIELDS
+     */
+    void onReceive(Object packet, SpoofState state, boolean traceFields);
+
+    /**
+     * client -> server: add the offset back
+     * @param traceFields this packet was sampled at PacketTrace.LEVEL_FIELDS
+     */
+    void onSend(Object packet, SpoofState state, boolean traceFields);
+
+    /**
+     * Whether the engine writes per-field trace records; without them LEVEL_FIELDS traces like LEVEL_PACKETS
+     */
+    default boolean tracesFields() {
+        return false;
+    }
+
+    /**
+     * Whether entity spawn/teleport packets are offset; OffsetResync only moves entities if they are
+     */
+    default boolean rewritesEntities() {
+        return true;
+    }
+
+    /**
+     * ClientConnection state transition, only pipeline-level engines need it
+     */
+    default void onTransition(Channel channel, NetworkPhase phase, boolean inbound) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.webcontrol.spoof;
+
+import com.example.webcontrol.WebControlConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holder for the engine chosen at startup.
+ *
+ * The engine lives in a static final field, so the JIT treats it as a constant and the
+ * packet hooks stay monomorphic. Only the branch for the configured engine runs, the other
+ * engine classes are never loaded. Changing "spoofEngine" takes effect after a restart.
+ */
+public final class CoordinateTransforms {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoordinateTransforms.class);
+
+    private static final CoordinateTransform ACTIVE = create(WebControlConfig.getInstance().getSpoofEngine());
+
+    private CoordinateTransforms() {}
+
+    public static CoordinateTransform active() {
+        return ACTIVE;
+    }
+
+    private static CoordinateTransform create(String engine) {
+        CoordinateTransform transform = switch (engine == null ? "" : engine.toLowerCase()) {
+            case "typed" -> new TypedTransform();
+            case "netty" -> new NettyTransform();
+            default -> new ReflectiveTransform();
+        };
+        LOGGER.info("[CoordinateTransforms] Spoof engine: " + transform.name());
+        return transform;
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.webcontrol.spoof;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.block.Blocks;
+import net.minecraft.network.NetworkPhase;
+import net.minecraft.network.NetworkState;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.encoding.VarInts;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.c2s.play.PlayerMoveC2SPacket;
+import net.minecraft.network.packet.s2c.play.BlockUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.PlayerPositionLookS2CPacket;
+import net.minecraft.network.packet.s2c.play.PositionFlag;
+import net.minecraft.network.state.PlayStateFactories;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.util.math.BlockPos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+
+/**
+ * Decode-time coordinate rewriting in the Netty pipeline.
+ *
+ * Instead of mutating packet objects after decoding, two channel handlers patch the coordinates
+ * directly in the frame ByteBuf for known packet layouts:
+ *
+ *   inbound:  splitter -> [decompress] -> webcontrol_coord_in -> decoder   (subtract offset)
+ *   outbound: encoder -> webcontrol_coord_out -> [compress] -> prepender   (add offset)
+ *
+ * Decoded packets already carry spoofed values, nothing is allocated per packet and all work stays
+ * on the Netty event loop. Packet ids are resolved once by encoding sample packets with the play codecs.
+ * Packets covered here are skipped by the object-mutation path so they are never offset twice.
+ */
+public final class NettyCoordRewriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NettyCoordRewriter.class);
+
+    public static final String INBOUND_NAME = "webcontrol_coord_in";
+    public static final String OUTBOUND_NAME = "webcontrol_coord_out";
+
+    // Frame layouts (payload right after the packet id varint)
+    private static final byte LAYOUT_NONE = 0;
+    private static final byte LAYOUT_BLOCK_POS = 1;   // packed BlockPos long
+    private static final byte LAYOUT_XYZ_DOUBLES = 2; // double x, double y, double z
+    private static final byte LAYOUT_TELEPORT = 3;    // double x, y, z, float yaw, pitch, byte relative flags
+
+    // Relative teleport axes carry a delta, not a position - they are never offset
+    private static final int RELATIVE_X = PositionFlag.getBitfield(Set.of(PositionFlag.X));
+    private static final int RELATIVE_Y = PositionFlag.getBitfield(Set.of(PositionFlag.Y));
+    private static final int RELATIVE_Z = PositionFlag.getBitfield(Set.of(PositionFlag.Z));
+    private static final int TELEPORT_FLAGS_OFFSET = 3 * Double.BYTES + 2 * Float.BYTES;
+
+    private static final Set<Class<?>> HANDLED_INCOMING = Set.of(
+        BlockUpdateS2CPacket.class,
+        PlayerPositionLookS2CPacket.class
+    );
+    private static final Set<Class<?>> HANDLED_OUTGOING = Set.of(
+        PlayerMoveC2SPacket.Full.class,
+        PlayerMoveC2SPacket.PositionAndOnGround.class
+    );
+
+    private static volatile byte[] inboundLayouts;
+    private static volatile byte[] outboundLayouts;
+
+    // True while a connection has the handlers installed and is in PLAY state
+    private static volatile boolean inboundActive = false;
+    private static volatile boolean outboundActive = false;
+
+    private NettyCoordRewriter() {}
+
+    // ===== PIPELINE SETUP =====
+
+    /**
+     * Called on every state transition of the client's own connection (ClientConnectionMixin filters
+     * out the integrated server's connections, whose frames have the opposite direction).
+     * Installs the handlers on first use and enables them only for the PLAY phase,
+     * because packet ids of other phases overlap with play ids.
+     */
+    public static void onTransition(Channel channel, NetworkPhase phase, boolean inbound) {
+        if (channel == null) {
+            return;
+        }
+
+        ChannelPipeline pipeline = channel.pipeline();
+        // Local (singleplayer) connections pass packet objects and have no splitter/prepender
+        if (pipeline.get("splitter") == null || pipeline.get("prepender") == null) {
+            return;
+        }
+
+        try {
+            ensureLayouts();
+            boolean play = phase == NetworkPhase.PLAY;
+
+            if (inbound) {
+                Inbound handler = (Inbound) pipeline.get(INBOUND_NAME);
+                if (handler == null) {
+                    handler = new Inbound();
+                    pipeline.addAfter(pipeline.get("decompress") != null ? "decompress" : "splitter", INBOUND_NAME, handler);
+                    LOGGER.info("[NettyCoordRewriter] Inbound coordinate rewriter installed");
+                }
+                handler.play = play;
+                inboundActive = play;
+            } else {
+                Outbound handler = (Outbound) pipeline.get(OUTBOUND_NAME);
+                if (handler == null) {
+                    handler = new Outbound();
+                    pipeline.addAfter(pipeline.get("compress") != null ? "compress" : "prepender", OUTBOUND_NAME, handler);
+                    LOGGER.info("[NettyCoordRewriter] Outbound coordinate rewriter installed");
+                }
+                handler.play = play;
+                outboundActive = play;
+            }
+        } catch (Exception e) {
+            LOGGER.error("[NettyCoordRewriter] Failed to install pipeline handler: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolve play packet ids once by encoding sample packets: the first varint is the id
+     */
+    private static synchronized void ensureLayouts() {
+        if (inboundLayouts != null) {
+            return;
+        }
+
+        var registryBinder = RegistryByteBuf.makeFactory(DynamicRegistryManager.EMPTY);
+        NetworkState<?> s2c = PlayStateFactories.S2C.bind(registryBinder);
+        NetworkState<?> c2s = PlayStateFactories.C2S.bind(registryBinder);
+
+        byte[] in = new byte[256];
+        byte[] out = new byte[256];
+
+        mapLayout(in, s2c, new BlockUpdateS2CPacket(BlockPos.ORIGIN, Blocks.AIR.getDefaultState()), LAYOUT_BLOCK_POS);
+        mapLayout(in, s2c, new PlayerPositionLookS2CPacket(0, 0, 0, 0f, 0f, Set.of(), 0), LAYOUT_TELEPORT);
+        mapLayout(out, c2s, new PlayerMoveC2SPacket.Full(0, 0, 0, 0f, 0f, false), LAYOUT_XYZ_DOUBLES);
+        mapLayout(out, c2s, new PlayerMoveC2SPacket.PositionAndOnGround(0, 0, 0, false), LAYOUT_XYZ_DOUBLES);
+
+        outboundLayouts = out;
+        inboundLayouts = in;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void mapLayout(byte[] layouts, NetworkState<?> state, Packet<?> sample, byte layout) {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            ((PacketCodec<ByteBuf, Packet<?>>) (Object) state.codec()).encode(buf, sample);
+            int id = VarInts.read(buf);
+            if (id >= 0 && id < layouts.length) {
+                layouts[id] = layout;
+            }
+        } finally {
+            buf.release();
+        }
+    }
+
+    // ===== OBJECT PATH COORDINATION =====
+
+    /**
+     * @return true if the packet was already rewritten in the ByteBuf and must not be touched again
+     */
+    public static boolean handlesIncoming(Object packet) {
+        return inboundActive && HANDLED_INCOMING.contains(packet.getClass());
+    }
+
+    public static boolean handlesOutgoing(Object packet) {
+        return outboundActive && HANDLED_OUTGOING.contains(packet.getClass());
+    }
+
+    // ===== BYTEBUF PATCHING =====
+
+    private static void rewriteFrame(ByteBuf buf, byte[] layouts, int sign) {
+        // One snapshot per frame: mode and offsets always belong together
+        SpoofState current = sign > 0 ? TrueRusherHackSpoofer.getSendState() : TrueRusherHackSpoofer.getState();
+        if (!current.rewritesPackets()) {
+            return;
+        }
+
+        // Peek the packet id varint without moving the reader index
+        int index = buf.readerIndex();
+        int end = buf.writerIndex();
+        int id = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (index >= end || shift >= 35) {
+                return;
+            }
+            b = buf.getByte(index++);
+            id |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        if (id < 0 || id >= layouts.length) {
+            return;
+        }
+
+        switch (layouts[id]) {
+            case LAYOUT_BLOCK_POS -> {
+                if (index + Long.BYTES > end) return;
+                long packed = buf.getLong(index);
+                buf.setLong(index, BlockPos.asLong(
+                    BlockPos.unpackLongX(packed) + sign * (int) current.offsetX(),
+                    BlockPos.unpackLongY(packed) + sign * (int) current.offsetY(),
+                    BlockPos.unpackLongZ(packed) + sign * (int) current.offsetZ()));
+            }
+            case LAYOUT_XYZ_DOUBLES -> {
+                if (index + 3 * Double.BYTES > end) return;
+                offsetDoubles(buf, index, current, sign, 0);
+            }
+            case LAYOUT_TELEPORT -> {
+                if (index + TELEPORT_FLAGS_OFFSET + 1 > end) return;
+                offsetDoubles(buf, index, current, sign, buf.getByte(index + TELEPORT_FLAGS_OFFSET));
+            }
+            default -> {
+                // LAYOUT_NONE - no coordinates in this packet
+            }
+        }
+    }
+
+    /**
+     * x, y, z doubles at index; axes flagged in relativeFlags are left alone
+     */
+    private static void offsetDoubles(ByteBuf buf, int index, SpoofState current, int sign, int relativeFlags) {
+        if ((relativeFlags & RELATIVE_X) == 0) {
+            buf.setDouble(index, buf.getDouble(index) + sign * current.offsetX());
+        }
+        if ((relativeFlags & RELATIVE_Y) == 0) {
+            buf.setDouble(index + 8, buf.getDouble(index + 8) + sign * current.offsetY());
+        }
+        if ((relativeFlags & RELATIVE_Z) == 0) {
+            buf.setDouble(index + 16, buf.getDouble(index + 16) + sign * current.offsetZ());
+        }
+    }
+
+    private static final class Inbound extends ChannelInboundHandlerAdapter {
+        volatile boolean play = false;
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            if (play && SpoofGuard.rewritesPackets() && msg instanceof ByteBuf buf) {
+                try {
+                    rewriteFrame(buf, inboundLayouts, -1); // server->client: subtract offset
+                } catch (Exception e) {
+                    // Never break the connection because of spoofing
+                }
+            }
+            super.channelRead(ctx, msg);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            play = false;
+            inboundActive = false;
+            super.channelInactive(ctx);
+        }
+    }
+
+    private static final class Outbound extends ChannelOutboundHandlerAdapter {
+        volatile boolean play = false;
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            if (play && SpoofGuard.rewritesPackets() && msg instanceof ByteBuf buf) {
+                try {
+                    rewriteFrame(buf, outboundLayouts, 1); // client->server: add offset
+                } catch (Exception e) {
+                    // Never break the connection because of spoofing
+                }
+            }
+            super.write(ctx, msg, promise);
+        }
+
+        @Override
+        public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+            play = false;
+            outboundActive = false;
+            super.close(ctx, promise);
+        }
+    }
+}
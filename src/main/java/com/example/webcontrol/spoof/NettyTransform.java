@@ -0,0 +1,47 @@
+package com.example.webcontrol.spoof;
+
+import io.netty.channel.Channel;
+import net.minecraft.network.NetworkPhase;
+
+/**
+ * Netty engine: known packet layouts are patched in the frame ByteBuf by NettyCoordRewriter,
+ * everything else falls back to the reflective engine on the decoded object.
+ */
+final class NettyTransform implements CoordinateTransform {
+    private final ReflectiveTransform fallback = new ReflectiveTransform();
+
+    @Override
+    public String name() {
+        return "netty";
+    }
+
+    @Override
+    public void onReceive(Object packet, SpoofState state, boolean traceFields) {
+        // Already rewritten in the ByteBuf - never offset twice
+        if (!NettyCoordRewriter.handlesIncoming(packet)) {
+            fallback.onReceive(packet, state, traceFields);
+        }
+    }
+
+    @Override
+    public void onSend(Object packet, SpoofState state, boolean traceFields) {
+        // Will be rewritten in the ByteBuf after the encoder
+        if (!NettyCoordRewriter.handlesOutgoing(packet)) {
+            fallback.onSend(packet, state, traceFields);
+        }
+    }
+
+    /**
+     * Frames patched in the ByteBuf carry no packet object to trace; only the reflective fallback
+     * writes field records, so they are reported as missing
+     */
+    @Override
+    public boolean tracesFields() {
+        return false;
+    }
+
+    @Override
+    public void onTransition(Channel channel, NetworkPhase phase, boolean inbound) {
+        NettyCoordRewriter.onTransition(channel, phase, inbound);
+    }
+}
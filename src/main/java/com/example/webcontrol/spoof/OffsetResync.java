@@ -0,0 +1,267 @@
+package com.example.webcontrol.spoof;
+
+import com.example.webcontrol.mixin.accessor.BlockEntityAccessor;
+import com.example.webcontrol.mixin.accessor.ChunkAccessor;
+import com.example.webcontrol.mixin.accessor.ClientChunkManagerAccessor;
+import com.example.webcontrol.mixin.accessor.ClientChunkMapAccessor;
+import com.example.webcontrol.mixin.accessor.ClientConnectionAccessor;
+import com.example.webcontrol.mixin.accessor.EntityAccessor;
+import com.example.webcontrol.performance.PerformanceMonitor;
+import io.netty.channel.Channel;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.client.world.ClientChunkManager;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.LightType;
+import net.minecraft.world.chunk.ChunkNibbleArray;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.chunk.light.LightingProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-place re-sync of the loaded client world when the offset changes mid-session.
+ *
+ * Everything the client received is stored at (server - old offset). Instead of a reconnect, the
+ * loaded world is moved by (old offset - new offset) in one pass on the client thread:
+ *   - entities, including the player (position, tracked position, interpolation target)
+ *   - chunks, when the offset is chunk-aligned: chunk map slot, chunk position, light columns
+ *     and block entities; sections and heightmaps are chunk-relative and stay as they are
+ * Offset zones are RENDER-only, so everything moves by the same global delta.
+ *
+ * Ordering:
+ *   1. The inbound offset is swapped on the Netty event loop, between two frames. Packets decoded
+ *      before it were already queued on the client thread, ahead of the translation task, so they
+ *      are moved together with the rest of the world; everything decoded after it is already new.
+ *   2. The outbound offset (sendState) is swapped on the client thread after the world moved,
+ *      so movement packets never mix old-space positions with the new offset.
+ * A dimension change or reconnect in between replaces the world; the task then has nothing to move.
+ */
+public final class OffsetResync {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OffsetResync.class);
+
+    private static final AtomicInteger PENDING = new AtomicInteger();
+
+    private OffsetResync() {}
+
+    /**
+     * @return true while an offset change is still being applied to the loaded world
+     */
+    public static boolean isPending() {
+        return PENDING.get() > 0;
+    }
+
+    /**
+     * Called by TrueRusherHackSpoofer under its lock
+     * @return true if the change was taken over; false means publish it right away
+     */
+    static boolean schedule(SpoofState previous, SpoofState next) {
+        if (!previous.rewritesPackets() || !next.rewritesPackets()) {
+            return false; // nothing in the world is offset; setMode refuses OFFSET on/off while connected
+        }
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        ClientWorld world = client.world;
+        Channel channel = connectedChannel(client);
+        if (world == null || channel == null) {
+            return false; // not connected - the next world is received with the new offset
+        }
+
+        if (previous.chunkAligned() != next.chunkAligned()) {
+            return false; // chunk packets switch between shifted and untouched - only a reconnect fixes that
+        }
+
+        PENDING.incrementAndGet();
+        try {
+            channel.eventLoop().execute(() -> {
+                TrueRusherHackSpoofer.publishInbound(next);
+                client.execute(() -> translate(client, world, previous, next));
+            });
+        } catch (RejectedExecutionException e) {
+            PENDING.decrementAndGet();
+            return false; // event loop already shut down
+        }
+        return true;
+    }
+
+    /**
+     * @return true while a world received through a live connection is loaded
+     */
+    static boolean isConnected() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        return client.world != null && connectedChannel(client) != null;
+    }
+
+    private static Channel connectedChannel(MinecraftClient client) {
+        ClientPlayNetworkHandler networkHandler = client.getNetworkHandler();
+        if (networkHandler == null) {
+            return null;
+        }
+        Channel channel = ((ClientConnectionAccessor) networkHandler.getConnection()).getChannel();
+        return channel != null && channel.isOpen() ? channel : null;
+    }
+
+    private static void translate(MinecraftClient client, ClientWorld world, SpoofState previous, SpoofState next) {
+        long start = System.nanoTime();
+        try {
+            if (client.world != world) {
+                LOGGER.info("[OffsetResync] World changed before re-sync of epoch " + next.epoch() + ", nothing to move");
+                return;
+            }
+
+            // Client coordinates = server - offset
+            int chunks = next.chunkAligned()
+                ? moveChunks(world, previous.chunkOffsetX() - next.chunkOffsetX(), previous.chunkOffsetZ() - next.chunkOffsetZ())
+                : 0;
+            int entities = CoordinateTransforms.active().rewritesEntities() ? moveEntities(client, world, previous, next) : 0;
+
+            LOGGER.info("[OffsetResync] Epoch " + next.epoch() + ": moved " + chunks + " chunks and " + entities +
+                " entities in " + (System.nanoTime() - start) / 1000 + "us");
+        } catch (Exception e) {
+            LOGGER.error("[OffsetResync] Failed to move the loaded world: " + e.getMessage());
+        } finally {
+            // Последний ожидающий re-sync открывает исходящие пакеты с новым офсетом
+            if (PENDING.decrementAndGet() == 0) {
+                TrueRusherHackSpoofer.publishSend();
+            }
+            PerformanceMonitor.recordOperation("spoof.resync", System.nanoTime() - start);
+        }
+    }
+
+    // ===== CHUNKS =====
+
+    private record MovedChunk(WorldChunk chunk, ChunkNibbleArray[] skyLight, ChunkNibbleArray[] blockLight) {}
+
+    private static int moveChunks(ClientWorld world, int chunkDx, int chunkDz) {
+        if (chunkDx == 0 && chunkDz == 0) {
+            return 0;
+        }
+
+        ClientChunkManager chunkManager = world.getChunkManager();
+        ClientChunkMapAccessor chunkMap = (ClientChunkMapAccessor) ((ClientChunkManagerAccessor) chunkManager).getChunkMap();
+        AtomicReferenceArray<WorldChunk> slots = chunkMap.getChunks();
+        LightingProvider lighting = chunkManager.getLightingProvider();
+        int bottomSection = lighting.getBottomY();
+        int lightHeight = lighting.getHeight();
+
+        // 1. Take every chunk out of the map, keep its light and drop the old light columns.
+        //    Old and new positions overlap, so all removals happen before any insertion
+        List<MovedChunk> moved = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            WorldChunk chunk = slots.getAndSet(i, null);
+            if (chunk == null) {
+                continue;
+            }
+
+            ChunkPos pos = chunk.getPos();
+            ChunkNibbleArray[] skyLight = new ChunkNibbleArray[lightHeight];
+            ChunkNibbleArray[] blockLight = new ChunkNibbleArray[lightHeight];
+            for (int y = 0; y < lightHeight; y++) {
+                ChunkSectionPos sectionPos = ChunkSectionPos.from(pos, bottomSection + y);
+                skyLight[y] = copy(lighting.get(LightType.SKY).getLightSection(sectionPos));
+                blockLight[y] = copy(lighting.get(LightType.BLOCK).getLightSection(sectionPos));
+                lighting.enqueueSectionData(LightType.SKY, sectionPos, null);
+                lighting.enqueueSectionData(LightType.BLOCK, sectionPos, null);
+            }
+            lighting.setColumnEnabled(pos, false);
+            moved.add(new MovedChunk(chunk, skyLight, blockLight));
+        }
+
+        // 2. The center moves by the same delta, so every chunk stays inside the radius
+        chunkManager.setChunkMapCenter(chunkMap.getCenterChunkX() + chunkDx, chunkMap.getCenterChunkZ() + chunkDz);
+
+        // 3. Re-insert under the new position
+        for (MovedChunk entry : moved) {
+            WorldChunk chunk = entry.chunk();
+            ChunkPos oldPos = chunk.getPos();
+            ChunkPos newPos = new ChunkPos(oldPos.x + chunkDx, oldPos.z + chunkDz);
+
+            ((ChunkAccessor) chunk).setPos(newPos);
+            moveBlockEntities(chunk, chunkDx << 4, chunkDz << 4);
+            if (chunkMap.invokeIsInRadius(newPos.x, newPos.z)) {
+                slots.set(chunkMap.invokeGetIndex(newPos.x, newPos.z), chunk);
+            }
+
+            lighting.setColumnEnabled(newPos, true);
+            ChunkSection[] sections = chunk.getSectionArray();
+            for (int i = 0; i < sections.length; i++) {
+                lighting.setSectionStatus(ChunkSectionPos.from(newPos, world.sectionIndexToCoord(i)), sections[i].isEmpty());
+            }
+            for (int y = 0; y < lightHeight; y++) {
+                ChunkSectionPos sectionPos = ChunkSectionPos.from(newPos, bottomSection + y);
+                if (entry.skyLight()[y] != null) {
+                    lighting.enqueueSectionData(LightType.SKY, sectionPos, entry.skyLight()[y]);
+                }
+                if (entry.blockLight()[y] != null) {
+                    lighting.enqueueSectionData(LightType.BLOCK, sectionPos, entry.blockLight()[y]);
+                }
+            }
+
+            world.resetChunkColor(oldPos);
+            world.resetChunkColor(newPos);
+            for (int i = 0; i < sections.length; i++) {
+                world.scheduleBlockRenders(newPos.x, world.sectionIndexToCoord(i), newPos.z);
+            }
+        }
+
+        lighting.doLightUpdates();
+        return moved.size();
+    }
+
+    /**
+     * Block entities are keyed by absolute position: remove under the old key, add under the new one
+     * so tickers and render lists follow
+     */
+    private static void moveBlockEntities(WorldChunk chunk, int blockDx, int blockDz) {
+        List<BlockEntity> blockEntities = new ArrayList<>(chunk.getBlockEntities().values());
+        for (BlockEntity blockEntity : blockEntities) {
+            chunk.removeBlockEntity(blockEntity.getPos());
+        }
+        for (BlockEntity blockEntity : blockEntities) {
+            ((BlockEntityAccessor) blockEntity).setPos(blockEntity.getPos().add(blockDx, 0, blockDz));
+            chunk.addBlockEntity(blockEntity);
+        }
+    }
+
+    private static ChunkNibbleArray copy(ChunkNibbleArray array) {
+        return array != null ? array.copy() : null;
+    }
+
+    // ===== ENTITIES =====
+
+    private static int moveEntities(MinecraftClient client, ClientWorld world, SpoofState previous, SpoofState next) {
+        List<Entity> entities = new ArrayList<>();
+        world.getEntities().forEach(entities::add);
+
+        for (Entity entity : entities) {
+            // Raw position: getPos() of the client player goes through EntityMixin
+            Vec3d pos = ((EntityAccessor) entity).getRawPos();
+
+            double x = pos.x + previous.offsetX() - next.offsetX();
+            double y = pos.y + previous.offsetY() - next.offsetY();
+            double z = pos.z + previous.offsetZ() - next.offsetZ();
+
+            // Relative move packets are applied on top of the tracked position
+            entity.updateTrackedPosition(x, y, z);
+            entity.setPosition(x, y, z);
+            entity.resetPosition();
+            if (entity != client.player) {
+                // Otherwise interpolation pulls the entity back to its old target
+                entity.updateTrackedPositionAndAngles(x, y, z, entity.getYaw(), entity.getPitch(), 1);
+            }
+        }
+        return entities.size();
+    }
+}
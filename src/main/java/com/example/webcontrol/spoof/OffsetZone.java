@@ -0,0 +1,26 @@
+package com.example.webcontrol.spoof;
+
+/**
+ * Axis-aligned area (server X/Z coordinates) with its own offset.
+ * min is inclusive, max exclusive; the zone spans the full world height.
+ */
+public record OffsetZone(String name,
+                         double minX, double minZ, double maxX, double maxZ,
+                         double offsetX, double offsetY, double offsetZ) {
+
+    public OffsetZone {
+        if (name == null) {
+            name = "";
+        }
+        if (minX > maxX) {
+            double swap = minX; minX = maxX; maxX = swap;
+        }
+        if (minZ > maxZ) {
+            double swap = minZ; minZ = maxZ; maxZ = swap;
+        }
+    }
+
+    public boolean contains(double x, double z) {
+        return x >= minX && x < maxX && z >= minZ && z < maxZ;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.webcontrol.spoof;
+
+import net.minecraft.network.packet.BundlePacket;
+import net.minecraft.network.packet.s2c.play.EntityS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntityVelocityUpdateS2CPacket;
+
+/**
+ * Precomputed coordinate class of every packet type.
+ *
+ * Relative moves and velocity updates are the bulk of entity traffic on a crowded server. They carry
+ * deltas which an offset never changes, so they are classified once per packet class and then skipped
+ * with a single ClassValue lookup, same as packets without any coordinates.
+ * Only ABSOLUTE packets ever reach the chunk rewriters or the active CoordinateTransform;
+ * bundles are unpacked by the spoofer and their sub-packets go through the same check.
+ */
+final class PacketClassifier {
+
+    enum PacketClass {
+        ABSOLUTE,        // world coordinates that must be offset
+        RELATIVE_DELTA,  // deltas/velocities - identical in real and spoofed space
+        COORDINATE_FREE, // nothing position related
+        BUNDLE           // BundleS2CPacket - sub-packets are classified one by one
+    }
+
+    /**
+     * Packets (and their subclasses) whose coordinate-looking fields are deltas:
+     * EntityS2CPacket covers MoveRelative, RotateAndMoveRelative and Rotate
+     */
+    private static final Class<?>[] RELATIVE_DELTA_TYPES = {
+        EntityS2CPacket.class,
+        EntityVelocityUpdateS2CPacket.class
+    };
+
+    private static final ClassValue<PacketClass> CLASSES = new ClassValue<>() {
+        @Override
+        protected PacketClass computeValue(Class<?> type) {
+            return classify(type);
+        }
+    };
+
+    private PacketClassifier() {}
+
+    static PacketClass classOf(Class<?> packetClass) {
+        return CLASSES.get(packetClass);
+    }
+
+    static boolean isAbsolute(Class<?> packetClass) {
+        return CLASSES.get(packetClass) == PacketClass.ABSOLUTE;
+    }
+
+    static boolean isRelativeDelta(Class<?> packetClass) {
+        for (Class<?> type : RELATIVE_DELTA_TYPES) {
+            if (type.isAssignableFrom(packetClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PacketClass classify(Class<?> packetClass) {
+        if (BundlePacket.class.isAssignableFrom(packetClass)) {
+            return PacketClass.BUNDLE;
+        }
+        if (isRelativeDelta(packetClass)) {
+            return PacketClass.RELATIVE_DELTA;
+        }
+        // Typed/chunk rewriters and the Netty layouts only register absolute packets;
+        // anything else is absolute if the reflective plan found coordinate fields
+        if (PacketRewriterRegistry.isCovered(packetClass) || !PacketRewritePlan.forClass(packetClass).isEmpty()) {
+            return PacketClass.ABSOLUTE;
+        }
+        return PacketClass.COORDINATE_FREE;
+    }
+}
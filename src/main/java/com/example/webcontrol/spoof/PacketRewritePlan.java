@@ -0,0 +1,148 @@
+package com.example.webcontrol.spoof;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precomputed list of coordinate fields for one packet class.
+ *
+ * The reflective scan (class hierarchy walk, setAccessible, name matching) runs once per
+ * packet class through a ClassValue. Every later packet of that class only does one
+ * ClassValue lookup and calls the cached MethodHandles. Classes without coordinate
+ * fields share the EMPTY plan and return immediately.
+ */
+final class PacketRewritePlan {
+
+    enum Axis {
+        X, Y, Z
+    }
+
+    enum Kind {
+        DOUBLE, FLOAT, INT, VEC3D, BLOCK_POS
+    }
+
+    /**
+     * One coordinate field: its axis and type are resolved at build time,
+     * getter/setter are adapted to (Object) so they can be called with invokeExact
+     */
+    static final class Entry {
+        final String name;
+        final Axis axis;
+        final Kind kind;
+        final MethodHandle getter;
+        final MethodHandle setter;
+
+        Entry(String name, Axis axis, Kind kind, MethodHandle getter, MethodHandle setter) {
+            this.name = name;
+            this.axis = axis;
+            this.kind = kind;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    private static final PacketRewritePlan EMPTY = new PacketRewritePlan(new Entry[0]);
+
+    private static final ClassValue<PacketRewritePlan> PLANS = new ClassValue<>() {
+        @Override
+        protected PacketRewritePlan computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    final Entry[] entries;
+
+    private PacketRewritePlan(Entry[] entries) {
+        this.entries = entries;
+    }
+
+    static PacketRewritePlan forClass(Class<?> packetClass) {
+        return PLANS.get(packetClass);
+    }
+
+    boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    private static PacketRewritePlan build(Class<?> packetClass) {
+        // Deltas are the same in real and spoofed space - offsetting them was always wrong
+        if (PacketClassifier.isRelativeDelta(packetClass)) {
+            return EMPTY;
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        for (Class<?> clazz = packetClass; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                String name = field.getName().toLowerCase();
+                Kind kind = kindOf(field.getType());
+                Axis axis = axisOf(name);
+                if (kind == null || axis == null || !isCoordinateName(name)) {
+                    continue;
+                }
+
+                try {
+                    field.setAccessible(true);
+                    MethodType getterType = MethodType.methodType(field.getType(), Object.class);
+                    MethodType setterType = MethodType.methodType(void.class, Object.class, field.getType());
+                    if (kind == Kind.VEC3D || kind == Kind.BLOCK_POS) {
+                        getterType = MethodType.methodType(Object.class, Object.class);
+                        setterType = MethodType.methodType(void.class, Object.class, Object.class);
+                    }
+                    MethodHandle getter = lookup.unreflectGetter(field).asType(getterType);
+                    MethodHandle setter = lookup.unreflectSetter(field).asType(setterType);
+                    entries.add(new Entry(field.getName(), axis, kind, getter, setter));
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // Field is not writable (records, hidden classes) - it could never be spoofed anyway
+                }
+            }
+        }
+
+        return entries.isEmpty() ? EMPTY : new PacketRewritePlan(entries.toArray(new Entry[0]));
+    }
+
+    /**
+     * Name rules of the reflective spoofer, without dx/dy/dz: those are deltas, never absolute coordinates
+     */
+    private static boolean isCoordinateName(String name) {
+        return name.equals("x") || name.equals("y") || name.equals("z") ||
+               name.contains("pos") || name.contains("coord");
+    }
+
+    /**
+     * Offset axis for a field name, null when the name has no axis letter.
+     * Fields without an axis were never modified because their offset resolved to 0.
+     */
+    private static Axis axisOf(String name) {
+        if (name.contains("x")) return Axis.X;
+        if (name.contains("y")) return Axis.Y;
+        if (name.contains("z")) return Axis.Z;
+        return null;
+    }
+
+    /**
+     * Only primitive and vector types are writable through the plan;
+     * boxed fields always failed with getDouble/setDouble before
+     */
+    private static Kind kindOf(Class<?> type) {
+        if (type == double.class) return Kind.DOUBLE;
+        if (type == float.class) return Kind.FLOAT;
+        if (type == int.class) return Kind.INT;
+        if (type == Vec3d.class) return Kind.VEC3D;
+        if (type == BlockPos.class) return Kind.BLOCK_POS;
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.webcontrol.spoof;
+
+/**
+ * Typed coordinate rewriter for one packet class.
+ * sign * offset is added to the packet coordinates: incoming packets get -offset (sign -1),
+ * outgoing +offset (sign 1). Packets always use the global offset, zones are RENDER-only.
+ */
+@FunctionalInterface
+public interface PacketRewriter<P> {
+    void rewrite(P packet, SpoofState state, int sign);
+}
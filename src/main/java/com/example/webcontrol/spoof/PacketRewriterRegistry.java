@@ -0,0 +1,161 @@
+package com.example.webcontrol.spoof;
+
+import com.example.webcontrol.mixin.accessor.BlockUpdateS2CPacketAccessor;
+import com.example.webcontrol.mixin.accessor.ChunkDataS2CPacketAccessor;
+import com.example.webcontrol.mixin.accessor.ChunkDeltaUpdateS2CPacketAccessor;
+import com.example.webcontrol.mixin.accessor.ChunkRenderDistanceCenterS2CPacketAccessor;
+import com.example.webcontrol.mixin.accessor.LightUpdateS2CPacketAccessor;
+import com.example.webcontrol.mixin.accessor.PlayerMoveC2SPacketAccessor;
+import com.example.webcontrol.mixin.accessor.UnloadChunkS2CPacketAccessor;
+import net.minecraft.network.packet.c2s.play.PlayerMoveC2SPacket;
+import net.minecraft.network.packet.s2c.play.BlockUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.ChunkDataS2CPacket;
+import net.minecraft.network.packet.s2c.play.ChunkDeltaUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.ChunkRenderDistanceCenterS2CPacket;
+import net.minecraft.network.packet.s2c.play.LightUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.UnloadChunkS2CPacket;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of typed packet rewriters built on mixin accessors.
+ *
+ * Dispatch is a single identity-map probe on the packet class instead of an instanceof chain,
+ * so adding packet types does not make every other packet slower. The map is filled once in the
+ * static initializer and never modified afterwards, so reads from the Netty thread need no locking.
+ *
+ * Chunk-addressed packets have their own map: they can only be shifted by whole chunks,
+ * which is O(1) per packet no matter how large the chunk payload is.
+ */
+public final class PacketRewriterRegistry {
+    private static final Map<Class<?>, PacketRewriter<?>> REWRITERS = new IdentityHashMap<>();
+    private static final Map<Class<?>, ChunkPacketRewriter<?>> CHUNK_REWRITERS = new IdentityHashMap<>();
+    private static final List<String> COVERED = new ArrayList<>();
+
+    static {
+        // ===== SERVER -> CLIENT =====
+        register(BlockUpdateS2CPacket.class, "s2c:BlockUpdateS2CPacket", PacketRewriterRegistry::rewriteBlockUpdate);
+
+        // ===== CLIENT -> SERVER =====
+        // Only the subclasses that carry a position; LookAndOnGround/OnGroundOnly have no coordinates
+        register(PlayerMoveC2SPacket.Full.class, "c2s:PlayerMoveC2SPacket.Full", PacketRewriterRegistry::rewritePlayerMove);
+        register(PlayerMoveC2SPacket.PositionAndOnGround.class, "c2s:PlayerMoveC2SPacket.PositionAndOnGround", PacketRewriterRegistry::rewritePlayerMove);
+
+        // ===== SERVER -> CLIENT, CHUNK-ALIGNED ONLY =====
+        registerChunk(ChunkDataS2CPacket.class, "s2c:chunk:ChunkDataS2CPacket", PacketRewriterRegistry::rewriteChunkData);
+        registerChunk(LightUpdateS2CPacket.class, "s2c:chunk:LightUpdateS2CPacket", PacketRewriterRegistry::rewriteLightUpdate);
+        registerChunk(ChunkDeltaUpdateS2CPacket.class, "s2c:chunk:ChunkDeltaUpdateS2CPacket", PacketRewriterRegistry::rewriteChunkDelta);
+        registerChunk(UnloadChunkS2CPacket.class, "s2c:chunk:UnloadChunkS2CPacket", PacketRewriterRegistry::rewriteUnloadChunk);
+        registerChunk(ChunkRenderDistanceCenterS2CPacket.class, "s2c:chunk:ChunkRenderDistanceCenterS2CPacket", PacketRewriterRegistry::rewriteRenderCenter);
+    }
+
+    private PacketRewriterRegistry() {}
+
+    private static <P> void register(Class<P> packetClass, String name, PacketRewriter<? super P> rewriter) {
+        REWRITERS.put(packetClass, rewriter);
+        COVERED.add(name);
+    }
+
+    private static <P> void registerChunk(Class<P> packetClass, String name, ChunkPacketRewriter<? super P> rewriter) {
+        CHUNK_REWRITERS.put(packetClass, rewriter);
+        COVERED.add(name);
+    }
+
+    /**
+     * Rewrite the packet if a typed rewriter is registered for its class
+     * @return true if the packet was handled
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean rewrite(Object packet, SpoofState state, int sign) {
+        PacketRewriter<Object> rewriter = (PacketRewriter<Object>) REWRITERS.get(packet.getClass());
+        if (rewriter == null) {
+            return false;
+        }
+        rewriter.rewrite(packet, state, sign);
+        return true;
+    }
+
+    /**
+     * Shift a chunk-addressed packet by whole chunks
+     * @return true if the packet was handled
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean rewriteChunk(Object packet, int chunkDx, int chunkDz) {
+        ChunkPacketRewriter<Object> rewriter = (ChunkPacketRewriter<Object>) CHUNK_REWRITERS.get(packet.getClass());
+        if (rewriter == null) {
+            return false;
+        }
+        rewriter.rewrite(packet, chunkDx, chunkDz);
+        return true;
+    }
+
+    public static boolean isCovered(Class<?> packetClass) {
+        return REWRITERS.containsKey(packetClass) || CHUNK_REWRITERS.containsKey(packetClass);
+    }
+
+    /**
+     * Names of all covered packet types, prefixed with their direction
+     */
+    public static List<String> getCoveredPackets() {
+        return Collections.unmodifiableList(COVERED);
+    }
+
+    // ===== REWRITERS =====
+
+    // Y is never touched by the typed rewriters (RusherHack streamer mode behaviour)
+
+    private static void rewriteBlockUpdate(BlockUpdateS2CPacket packet, SpoofState state, int sign) {
+        var accessor = (BlockUpdateS2CPacketAccessor) packet;
+        BlockPos pos = accessor.getPos();
+        accessor.setPos(new BlockPos(pos.getX() + sign * (int) state.offsetX(), pos.getY(), pos.getZ() + sign * (int) state.offsetZ()));
+    }
+
+    private static void rewritePlayerMove(PlayerMoveC2SPacket packet, SpoofState state, int sign) {
+        // Accessor only exposes X and Z - Y is never touched to avoid fall/teleport issues
+        var accessor = (PlayerMoveC2SPacketAccessor) packet;
+        accessor.setX(accessor.getX() + sign * state.offsetX());
+        accessor.setZ(accessor.getZ() + sign * state.offsetZ());
+    }
+
+    // ===== CHUNK REWRITERS =====
+
+    private static void rewriteChunkData(ChunkDataS2CPacket packet, int chunkDx, int chunkDz) {
+        // Block states, heightmaps, block entities and light inside are chunk-relative
+        var accessor = (ChunkDataS2CPacketAccessor) packet;
+        accessor.setChunkX(packet.getChunkX() + chunkDx);
+        accessor.setChunkZ(packet.getChunkZ() + chunkDz);
+    }
+
+    private static void rewriteLightUpdate(LightUpdateS2CPacket packet, int chunkDx, int chunkDz) {
+        var accessor = (LightUpdateS2CPacketAccessor) packet;
+        accessor.setChunkX(packet.getChunkX() + chunkDx);
+        accessor.setChunkZ(packet.getChunkZ() + chunkDz);
+    }
+
+    private static void rewriteChunkDelta(ChunkDeltaUpdateS2CPacket packet, int chunkDx, int chunkDz) {
+        // Positions are packed as section-local shorts, only the section moves
+        var accessor = (ChunkDeltaUpdateS2CPacketAccessor) packet;
+        ChunkSectionPos section = accessor.getSectionPos();
+        accessor.setSectionPos(ChunkSectionPos.from(
+            section.getSectionX() + chunkDx, section.getSectionY(), section.getSectionZ() + chunkDz));
+    }
+
+    private static void rewriteUnloadChunk(UnloadChunkS2CPacket packet, int chunkDx, int chunkDz) {
+        ChunkPos pos = packet.pos();
+        ((UnloadChunkS2CPacketAccessor) (Object) packet).setPos(new ChunkPos(pos.x + chunkDx, pos.z + chunkDz));
+    }
+
+    private static void rewriteRenderCenter(ChunkRenderDistanceCenterS2CPacket packet, int chunkDx, int chunkDz) {
+        // The client chunk map rejects chunks outside the radius around this center
+        var accessor = (ChunkRenderDistanceCenterS2CPacketAccessor) packet;
+        accessor.setChunkX(packet.getChunkX() + chunkDx);
+        accessor.setChunkZ(packet.getChunkZ() + chunkDz);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.webcontrol.spoof;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free ring buffer of packet trace records.
+ *
+ * Replaces per-packet LOGGER.info calls: the Netty/render threads only store primitives
+ * (timestamp, packet type id, direction, axis, before/after value) into preallocated arrays.
+ * Names and text are produced later by whoever reads the buffer (the /api/trace endpoint).
+ *
+ * Writers claim a slot with one getAndIncrement and publish it seqlock-style, so a reader
+ * never returns a half-written record. Old records are overwritten once the buffer wraps.
+ */
+public final class PacketTrace {
+
+    public static final int LEVEL_OFF = 0;
+    public static final int LEVEL_PACKETS = 1; // one record per spoofed packet
+    public static final int LEVEL_FIELDS = 2;  // plus one record per rewritten field
+
+    public static final byte RECEIVE = 0;
+    public static final byte SEND = 1;
+    public static final byte NO_AXIS = -1;
+
+    private static final int CAPACITY = 4096; // power of two
+    private static final int MASK = CAPACITY - 1;
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    // seq + 1 of the record stored in the slot, 0 while the slot is being written
+    private static final AtomicLongArray PUBLISHED = new AtomicLongArray(CAPACITY);
+    private static final long[] TIME = new long[CAPACITY];
+    private static final int[] TYPE = new int[CAPACITY];
+    private static final byte[] DIRECTION = new byte[CAPACITY];
+    private static final byte[] AXIS = new byte[CAPACITY];
+    private static final double[] BEFORE = new double[CAPACITY];
+    private static final double[] AFTER = new double[CAPACITY];
+
+    // Packet class -> small int, names only resolved when reading
+    private static final List<String> TYPE_NAMES = new CopyOnWriteArrayList<>();
+    private static final ClassValue<Integer> TYPE_IDS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            synchronized (TYPE_NAMES) {
+                TYPE_NAMES.add(type.getSimpleName());
+                return TYPE_NAMES.size() - 1;
+            }
+        }
+    };
+
+    private static volatile int level = LEVEL_OFF;
+    private static volatile int sampleRate = 1; // keep 1 of every N packets
+    private static int sampleCounter = 0;       // racy on purpose, only used for sampling
+
+    private PacketTrace() {}
+
+    // ===== CONFIGURATION =====
+
+    public static void configure(int newLevel, int newSampleRate) {
+        sampleRate = Math.max(1, newSampleRate);
+        level = Math.max(LEVEL_OFF, Math.min(LEVEL_FIELDS, newLevel));
+    }
+
+    public static int getLevel() {
+        return level;
+    }
+
+    public static int getSampleRate() {
+        return sampleRate;
+    }
+
+    public static int parseLevel(String name) {
+        return switch (name == null ? "" : name.toUpperCase()) {
+            case "PACKETS" -> LEVEL_PACKETS;
+            case "FIELDS" -> LEVEL_FIELDS;
+            default -> LEVEL_OFF;
+        };
+    }
+
+    public static String levelName(int value) {
+        return switch (value) {
+            case LEVEL_PACKETS -> "PACKETS";
+            case LEVEL_FIELDS -> "FIELDS";
+            default -> "OFF";
+        };
+    }
+
+    // ===== HOT PATH =====
+
+    /**
+     * Sampling decision for one packet. Taken once per packet and handed down to the engine, so the
+     * packet record and its field records are kept or dropped together (1 of every N packets)
+     * @return level to trace this packet at, LEVEL_OFF if it is not traced
+     */
+    public static int sample() {
+        int current = level;
+        if (current == LEVEL_OFF) {
+            return LEVEL_OFF;
+        }
+        int rate = sampleRate;
+        return rate == 1 || (++sampleCounter % rate) == 0 ? current : LEVEL_OFF;
+    }
+
+    public static void record(Class<?> packetClass, byte direction, byte axis, double before, double after) {
+        long seq = SEQUENCE.getAndIncrement();
+        int slot = (int) seq & MASK;
+
+        PUBLISHED.setOpaque(slot, 0);
+        VarHandle.releaseFence(); // the 0 must be visible before any field of the new record
+
+        TIME[slot] = System.nanoTime();
+        TYPE[slot] = TYPE_IDS.get(packetClass);
+        DIRECTION[slot] = direction;
+        AXIS[slot] = axis;
+        BEFORE[slot] = before;
+        AFTER[slot] = after;
+
+        PUBLISHED.setRelease(slot, seq + 1);
+    }
+
+    // ===== READING (HTTP thread) =====
+
+    public record Entry(long timeNanos, String packet, String direction, String axis, double before, double after) {}
+
+    /**
+     * Newest records first, at most {@code limit}; records overwritten while reading are skipped
+     */
+    public static List<Entry> snapshot(int limit) {
+        long head = SEQUENCE.get();
+        long from = Math.max(0, head - Math.min(limit, CAPACITY));
+        List<Entry> entries = new ArrayList<>((int) (head - from));
+
+        for (long seq = head - 1; seq >= from; seq--) {
+            int slot = (int) seq & MASK;
+            if (PUBLISHED.getAcquire(slot) != seq + 1) {
+                continue; // still being written or already overwritten
+            }
+
+            long time = TIME[slot];
+            int type = TYPE[slot];
+            byte direction = DIRECTION[slot];
+            byte axis = AXIS[slot];
+            double before = BEFORE[slot];
+            double after = AFTER[slot];
+
+            VarHandle.acquireFence();
+            if (PUBLISHED.getOpaque(slot) != seq + 1) {
+                continue; // overwritten while copying
+            }
+
+            entries.add(new Entry(time,
+                type < TYPE_NAMES.size() ? TYPE_NAMES.get(type) : "#" + type,
+                direction == SEND ? "send" : "receive",
+                axis == NO_AXIS ? "" : PacketRewritePlan.Axis.values()[axis].name(),
+                before, after));
+        }
+        return entries;
+    }
+
+    /**
+     * Total records written since start (including overwritten ones)
+     */
+    public static long getTotalRecorded() {
+        return SEQUENCE.get();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.webcontrol.spoof;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Reflective engine: every field that looks like a coordinate is offset,
+ * exactly like the original RusherHack plugin. Default engine.
+ */
+final class ReflectiveTransform implements CoordinateTransform {
+    @Override
+    public String name() {
+        return "reflective";
+    }
+
+    @Override
+    public void onReceive(Object packet, SpoofState state, boolean traceFields) {
+        modifyPacketCoordinates(packet, state, true, traceFields); // true = subtract offset
+    }
+
+    @Override
+    public void onSend(Object packet, SpoofState state, boolean traceFields) {
+        modifyPacketCoordinates(packet, state, false, traceFields); // false = add offset
+    }
+
+    @Override
+    public boolean tracesFields() {
+        return true;
+    }
+
+    /**
+     * КЛЮЧЕВОЙ МЕТОД: Буквально модифицируем все поля координат в пакете
+     * Это то что делает оригинальный RusherHack плагин
+     *
+     * Поля ищутся один раз на класс пакета (PacketRewritePlan), дальше только MethodHandle вызовы
+     */
+    private static void modifyPacketCoordinates(Object packet, SpoofState current, boolean subtractOffset, boolean trace) {
+        PacketRewritePlan plan = PacketRewritePlan.forClass(packet.getClass());
+        if (plan.isEmpty()) {
+            return; // В пакете нет координат
+        }
+
+        for (PacketRewritePlan.Entry entry : plan.entries) {
+            try {
+                modifyCoordinateField(packet, entry, current, subtractOffset, trace);
+            } catch (Throwable e) {
+                // Игнорируем ошибки отдельных полей
+            }
+        }
+    }
+
+    /**
+     * БУКВАЛЬНО МОДИФИЦИРУЕМ ПОЛЕ КООРДИНАТЫ
+     */
+    private static void modifyCoordinateField(Object packet, PacketRewritePlan.Entry entry, SpoofState current,
+                                              boolean subtractOffset, boolean trace) throws Throwable {
+        // Определяем какой офсет использовать
+        double offset = current.offsetFor(entry.axis);
+        double offsetX = current.offsetX();
+        double offsetY = current.offsetY();
+        double offsetZ = current.offsetZ();
+        if (offset == 0) return; // Не модифицируем если офсет 0
+
+        switch (entry.kind) {
+            case DOUBLE -> {
+                double value = (double) entry.getter.invokeExact(packet);
+                double newValue = subtractOffset ? value - offset : value + offset;
+                entry.setter.invokeExact(packet, newValue);
+
+                if (trace) {
+                    trace(packet, entry, subtractOffset, value, newValue);
+                }
+            }
+            case FLOAT -> {
+                float value = (float) entry.getter.invokeExact(packet);
+                float newValue = subtractOffset ? value - (float)offset : value + (float)offset;
+                entry.setter.invokeExact(packet, newValue);
+
+                if (trace) {
+                    trace(packet, entry, subtractOffset, value, newValue);
+                }
+            }
+            case INT -> {
+                int value = (int) entry.getter.invokeExact(packet);
+                int newValue = subtractOffset ? value - (int)offset : value + (int)offset;
+                entry.setter.invokeExact(packet, newValue);
+
+                if (trace) {
+                    trace(packet, entry, subtractOffset, value, newValue);
+                }
+            }
+            case VEC3D -> {
+                Vec3d value = (Vec3d) (Object) entry.getter.invokeExact(packet);
+                if (value != null) {
+                    Vec3d newValue = subtractOffset ?
+                        new Vec3d(value.x - offsetX, value.y - offsetY, value.z - offsetZ) :
+                        new Vec3d(value.x + offsetX, value.y + offsetY, value.z + offsetZ);
+                    entry.setter.invokeExact(packet, (Object) newValue);
+
+                    if (trace) {
+                        trace(packet, entry, subtractOffset, component(value, entry.axis), component(newValue, entry.axis));
+                    }
+                }
+            }
+            case BLOCK_POS -> {
+                BlockPos value = (BlockPos) (Object) entry.getter.invokeExact(packet);
+                if (value != null) {
+                    BlockPos newValue = subtractOffset ?
+                        new BlockPos(value.getX() - (int)offsetX, value.getY() - (int)offsetY, value.getZ() - (int)offsetZ) :
+                        new BlockPos(value.getX() + (int)offsetX, value.getY() + (int)offsetY, value.getZ() + (int)offsetZ);
+                    entry.setter.invokeExact(packet, (Object) newValue);
+
+                    if (trace) {
+                        trace(packet, entry, subtractOffset, component(value, entry.axis), component(newValue, entry.axis));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void trace(Object packet, PacketRewritePlan.Entry entry, boolean subtractOffset, double before, double after) {
+        PacketTrace.record(packet.getClass(), subtractOffset ? PacketTrace.RECEIVE : PacketTrace.SEND,
+            (byte) entry.axis.ordinal(), before, after);
+    }
+
+    private static double component(Vec3d vec, PacketRewritePlan.Axis axis) {
+        return switch (axis) {
+            case X -> vec.x;
+            case Y -> vec.y;
+            case Z -> vec.z;
+        };
+    }
+
+    private static double component(BlockPos pos, PacketRewritePlan.Axis axis) {
+        return switch (axis) {
+            case X -> pos.getX();
+            case Y -> pos.getY();
+            case Z -> pos.getZ();
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.webcontrol.spoof;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * Global on/off switch for all spoofing hooks.
+ *
+ * The answer comes from a MutableCallSite whose target is a constant handle. Through the static
+ * final dynamicInvoker the JIT inlines that constant, so while spoofing is off every hook folds to
+ * an immediate return, the same code as the vanilla method. Changing the target (web API, keybind,
+ * config) deoptimizes the dependent code and it is recompiled with the new constant.
+ *
+ * Unlike a SwitchPoint the call site can be flipped in both directions any number of times.
+ */
+public final class SpoofGuard {
+    private static final MutableCallSite CALL_SITE =
+        new MutableCallSite(MethodHandles.constant(boolean.class, false));
+    private static final MethodHandle ACTIVE = CALL_SITE.dynamicInvoker();
+
+    // Packet hooks and player position getters: only OFFSET, RENDER leaves them folded away
+    private static final MutableCallSite PACKETS_CALL_SITE =
+        new MutableCallSite(MethodHandles.constant(boolean.class, false));
+    private static final MethodHandle PACKETS = PACKETS_CALL_SITE.dynamicInvoker();
+
+    private SpoofGuard() {}
+
+    /**
+     * @return true if any spoofing is enabled; constant-folded by the JIT between changes
+     */
+    public static boolean isActive() {
+        try {
+            return (boolean) ACTIVE.invokeExact();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return true if packets and entity getters are rewritten (OFFSET mode)
+     */
+    public static boolean rewritesPackets() {
+        try {
+            return (boolean) PACKETS.invokeExact();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Relink the guards; called from TrueRusherHackSpoofer when the mode changes either flag
+     */
+    static synchronized void update(boolean active, boolean packets) {
+        CALL_SITE.setTarget(MethodHandles.constant(boolean.class, active));
+        PACKETS_CALL_SITE.setTarget(MethodHandles.constant(boolean.class, packets));
+        MutableCallSite.syncAll(new MutableCallSite[] { CALL_SITE, PACKETS_CALL_SITE });
+    }
+}
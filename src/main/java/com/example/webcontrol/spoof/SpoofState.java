@@ -0,0 +1,127 @@
+package com.example.webcontrol.spoof;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the spoofing configuration.
+ *
+ * Published through a single volatile reference in TrueRusherHackSpoofer: a reader does one
+ * volatile read per packet or frame and then works on a consistent mode/offset pair, even if
+ * the HTTP thread swaps the state in the middle. The epoch grows by one on every change.
+ *
+ * The offsets are the global ones; offset zones are part of the same snapshot and at() returns the
+ * prebuilt state of the zone containing a position (or this state outside all zones). Zones exist in
+ * RENDER mode only, so packets and the player's getters always use the global offset.
+ */
+public record SpoofState(TrueRusherHackSpoofer.SpoofMode mode,
+                         double offsetX, double offsetY, double offsetZ,
+                         boolean chunkAligned, long epoch, ZoneIndex zones) {
+
+    static final SpoofState INITIAL = new SpoofState(TrueRusherHackSpoofer.SpoofMode.VANILLA, 0, 0, 0, false, 0, ZoneIndex.EMPTY);
+
+    public boolean isActive() {
+        return mode != TrueRusherHackSpoofer.SpoofMode.VANILLA;
+    }
+
+    /**
+     * Only OFFSET touches packets and the player's position getters; RENDER offsets displayed text only
+     */
+    public boolean rewritesPackets() {
+        return mode == TrueRusherHackSpoofer.SpoofMode.OFFSET;
+    }
+
+    /**
+     * Offset in whole chunks, exact while chunk-aligned (offset is a multiple of 16)
+     */
+    public int chunkOffsetX() {
+        return (int) offsetX >> 4;
+    }
+
+    public int chunkOffsetZ() {
+        return (int) offsetZ >> 4;
+    }
+
+    // ===== OFFSET ZONES =====
+
+    public boolean hasZones() {
+        return !zones.isEmpty();
+    }
+
+    /**
+     * State for a real (server-space) position
+     */
+    public SpoofState at(double x, double z) {
+        if (zones.isEmpty()) {
+            return this;
+        }
+        SpoofState zone = zones.resolve(x, z);
+        return zone != null ? zone : this;
+    }
+
+    // ===== UI SPOOFING (server coordinates -> what the client shows) =====
+    // Single-axis helpers use this state's offsets; resolve the zone with at() first
+
+    public double spoofX(double realX) {
+        return isActive() ? realX - offsetX : realX;
+    }
+
+    public double spoofY(double realY) {
+        return isActive() ? realY - offsetY : realY;
+    }
+
+    public double spoofZ(double realZ) {
+        return isActive() ? realZ - offsetZ : realZ;
+    }
+
+    public Vec3d spoof(Vec3d realPos) {
+        if (!isActive()) {
+            return realPos;
+        }
+        SpoofState zone = at(realPos.x, realPos.z);
+        return new Vec3d(realPos.x - zone.offsetX, realPos.y - zone.offsetY, realPos.z - zone.offsetZ);
+    }
+
+    public BlockPos spoof(BlockPos realPos) {
+        if (!isActive()) {
+            return realPos;
+        }
+        SpoofState zone = at(realPos.getX(), realPos.getZ());
+        return new BlockPos((int) zone.spoofX(realPos.getX()), (int) zone.spoofY(realPos.getY()), (int) zone.spoofZ(realPos.getZ()));
+    }
+
+    double offsetFor(PacketRewritePlan.Axis axis) {
+        return switch (axis) {
+            case X -> offsetX;
+            case Y -> offsetY;
+            case Z -> offsetZ;
+        };
+    }
+
+    SpoofState withMode(TrueRusherHackSpoofer.SpoofMode newMode) {
+        return new SpoofState(newMode, offsetX, offsetY, offsetZ, chunkAligned, epoch + 1,
+            zones.rebuild(newMode, chunkAligned, epoch + 1));
+    }
+
+    /**
+     * Chunk-aligned: X/Z are rounded to the nearest multiple of 16 and Y is forced to 0.
+     * Chunk packets can only move by whole chunk columns, never vertically, so block updates,
+     * entities and the player must not be shifted vertically either
+     */
+    SpoofState withOffset(double x, double y, double z, boolean aligned) {
+        if (aligned) {
+            x = TrueRusherHackSpoofer.alignToChunk(x) << 4;
+            y = 0;
+            z = TrueRusherHackSpoofer.alignToChunk(z) << 4;
+        }
+        return new SpoofState(mode, x, y, z, aligned, epoch + 1,
+            aligned == chunkAligned ? zones : zones.rebuild(mode, aligned, epoch + 1));
+    }
+
+    SpoofState withZones(List<OffsetZone> newZones) {
+        return new SpoofState(mode, offsetX, offsetY, offsetZ, chunkAligned, epoch + 1,
+            ZoneIndex.build(newZones, mode, chunkAligned, epoch + 1));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.webcontrol.spoof;
+
+/**
+ * Notified when the published SpoofState (mode, offsets, zones) is replaced.
+ *
+ * Called on the thread that published the change - HTTP, keybind/client thread or, during an
+ * offset re-sync, the Netty event loop - while TrueRusherHackSpoofer holds its lock.
+ * Keep it short and hand anything that touches the game over to the client thread.
+ */
+@FunctionalInterface
+public interface SpoofStateListener {
+    void onStateChanged(SpoofState previous, SpoofState next);
+}
@@ -0,0 +1,41 @@
+package com.example.webcontrol.spoof;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Everything the HUD and the getter hooks derive from one spoofed player position.
+ * Built once per (position, state epoch) by SpoofedPositionCache.
+ *
+ * netherX/Z are the coordinates divided by 8 (overworld -> nether), overworldX/Z multiplied by 8.
+ */
+public record SpoofedPosition(double realX, double realY, double realZ, long epoch,
+                              Vec3d pos, BlockPos blockPos,
+                              int chunkX, int chunkZ, int localX, int localZ,
+                              double netherX, double netherZ, double overworldX, double overworldZ) {
+
+    private static final double NETHER_RATIO = 8.0;
+
+    static SpoofedPosition compute(SpoofState state, Vec3d realPos) {
+        return of(realPos.x, realPos.y, realPos.z, state.epoch(), state.spoof(realPos));
+    }
+
+    /**
+     * Same entry with a different displayed position (HUD animation), derived values recomputed
+     */
+    public SpoofedPosition withPos(Vec3d newPos) {
+        return of(realX, realY, realZ, epoch, newPos);
+    }
+
+    private static SpoofedPosition of(double realX, double realY, double realZ, long epoch, Vec3d pos) {
+        BlockPos blockPos = BlockPos.ofFloored(pos);
+        return new SpoofedPosition(realX, realY, realZ, epoch,
+            pos, blockPos,
+            blockPos.getX() >> 4, blockPos.getZ() >> 4, blockPos.getX() & 15, blockPos.getZ() & 15,
+            pos.x / NETHER_RATIO, pos.z / NETHER_RATIO, pos.x * NETHER_RATIO, pos.z * NETHER_RATIO);
+    }
+
+    boolean matches(SpoofState state, Vec3d realPos) {
+        return epoch == state.epoch() && realX == realPos.x && realY == realPos.y && realZ == realPos.z;
+    }
+}
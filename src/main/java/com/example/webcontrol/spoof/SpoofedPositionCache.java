@@ -0,0 +1,44 @@
+package com.example.webcontrol.spoof;
+
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Frame/tick scoped cache of the spoofed player position.
+ *
+ * Within one frame the in-game HUD, F3, the overlay and EntityMixin.getPos all ask for the same
+ * position; the first call computes a SpoofedPosition and every later one gets the same instance.
+ * The key is the input position plus the SpoofState epoch, so the cache invalidates itself when the
+ * player moves or the mode/offsets/zones change - no frame or tick hook is needed.
+ *
+ * Every caller passes the raw entity position (the HUD via CoordSpoofManager.getRawPos, EntityMixin
+ * its own field), never the spoofed getPos(), so the offset is applied exactly once and all of them
+ * share one entry. The second slot keeps the previous entry for the odd interleaved lookup of another
+ * position within the same frame.
+ * Entries are immutable and published through volatile fields, a racing caller at worst recomputes.
+ */
+public final class SpoofedPositionCache {
+    private static volatile SpoofedPosition recent;
+    private static volatile SpoofedPosition previous;
+
+    private SpoofedPositionCache() {}
+
+    public static SpoofedPosition get(Vec3d realPos) {
+        return get(TrueRusherHackSpoofer.getState(), realPos);
+    }
+
+    public static SpoofedPosition get(SpoofState state, Vec3d realPos) {
+        SpoofedPosition entry = recent;
+        if (entry != null && entry.matches(state, realPos)) {
+            return entry;
+        }
+        SpoofedPosition other = previous;
+        if (other != null && other.matches(state, realPos)) {
+            return other;
+        }
+
+        SpoofedPosition computed = SpoofedPosition.compute(state, realPos);
+        previous = entry;
+        recent = computed;
+        return computed;
+    }
+}
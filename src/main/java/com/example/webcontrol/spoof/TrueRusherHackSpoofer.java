@@ -1,11 +1,14 @@
 package com.example.webcontrol.spoof;
 
-import net.minecraft.util.math.BlockPos;
+import com.example.webcontrol.performance.PerformanceMonitor;
+import net.minecraft.entity.Entity;
+import net.minecraft.network.packet.BundlePacket;
 import net.minecraft.util.math.Vec3d;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * TRUE RusherHack Streamer Mode Implementation
@@ -19,256 +22,324 @@ import java.lang.reflect.Field;
  * 
  * server->client: 150 50 150 → my plugin: 150-100 = 50, 50, 150-100, 50
  * client->server: 50+100, 50, 50+100
+ *
+ * Единственное место, где хранится режим/офсет (SpoofState) и где платится и измеряется
+ * стоимость спуфинга: пакеты передаются выбранному движку CoordinateTransform.
  */
 public class TrueRusherHackSpoofer {
     private static final Logger LOGGER = LoggerFactory.getLogger(TrueRusherHackSpoofer.class);
 
     public enum SpoofMode {
         VANILLA,    // No spoofing
-        OFFSET      // True RusherHack mode
+        OFFSET,     // True RusherHack mode
+        RENDER      // Display only: HUD/F3 text is offset per frame, packets and world stay untouched
     }
 
-    private static SpoofMode currentMode = SpoofMode.VANILLA;
-    private static double offsetX = 0; // n для X
-    private static double offsetY = 0; // n для Y (обычно 0)
-    private static double offsetZ = 0; // n для Z
+    // Режим и офсеты (n для X/Y/Z, Y обычно 0) публикуются одним снимком:
+    // HTTP-поток подменяет ссылку, Netty/рендер читают её один раз на пакет или кадр
+    private static volatile SpoofState state = SpoofState.INITIAL;
+
+    // Исходящие пакеты: отстаёт от state, пока OffsetResync не сдвинул мир на клиентском потоке
+    private static volatile SpoofState sendState = SpoofState.INITIAL;
+
+    // Последнее запрошенное состояние (под локом класса); опережает state, пока идёт re-sync
+    private static SpoofState target = SpoofState.INITIAL;
+
+    // Вызываются при каждой смене state - вместо опроса режима каждый кадр
+    private static final List<SpoofStateListener> LISTENERS = new CopyOnWriteArrayList<>();
 
     // ===== CONFIGURATION =====
     
     public static SpoofMode getCurrentMode() {
-        return currentMode;
+        return state.mode();
     }
 
-    public static void setMode(SpoofMode mode) {
-        currentMode = mode;
-        LOGGER.info("[TrueRusherHackSpoofer] Mode set to: " + mode);
+    /**
+     * Current snapshot; read it once and use it for the whole packet/frame
+     */
+    public static SpoofState getState() {
+        return state;
     }
 
-    public static void setOffset(double x, double y, double z) {
-        offsetX = x;
-        offsetY = y;
-        offsetZ = z;
-        LOGGER.info("[TrueRusherHackSpoofer] Offset set to: X=" + x + ", Y=" + y + ", Z=" + z);
+    /**
+     * @return false if the mode could not be applied because the hooks were skipped at launch
+     * @throws IllegalStateException when switching to OFFSET while offset zones are set, or when switching
+     *         OFFSET on or off while connected - the loaded world stays in the old offset space
+     */
+    public static synchronized boolean setMode(SpoofMode mode) {
+        if (mode != SpoofMode.VANILLA && !areHooksInstalled()) {
+            // WebControlMixinPlugin не применил хуки (VANILLA при запуске) - спуфинг только после перезапуска
+            LOGGER.warn("[TrueRusherHackSpoofer] Spoofing hooks were not applied at launch, restart required for mode: " + mode);
+            return false;
+        }
+        SpoofState previous = target;
+        if (mode == SpoofMode.OFFSET && previous.hasZones()) {
+            throw new IllegalStateException("Offset zones are supported in render mode only, clear them before switching to offset mode");
+        }
+        SpoofState next = previous.withMode(mode);
+        if (previous.rewritesPackets() != next.rewritesPackets() && OffsetResync.isConnected()) {
+            throw new IllegalStateException("Reconnect required: offset mode cannot be switched on or off while connected");
+        }
+        publish(next);
+        // Перелинковать хуки только когда меняется вкл/выкл
+        if (previous.isActive() != next.isActive() || previous.rewritesPackets() != next.rewritesPackets()) {
+            SpoofGuard.update(next.isActive(), next.rewritesPackets());
+        }
+        LOGGER.info("[TrueRusherHackSpoofer] Mode set to: " + mode);
+        return true;
     }
 
-    // ===== TRUE RUSHERHACK LOGIC =====
-    
     /**
-     * EventPacket.Receive - БУКВАЛЬНО МОДИФИЦИРУЕМ ПОЛЯ В ПАКЕТАХ
-     * "you change the incoming coordinates with n" где n = -offset
+     * Whether the spoofing mixins were applied this session (see WebControlMixinPlugin)
      */
-    public static void onPacketReceive(Object packet) {
-        if (currentMode == SpoofMode.VANILLA) {
-            return;
-        }
+    public static boolean areHooksInstalled() {
+        return Hooks.INSTALLED;
+    }
 
-        try {
-            String packetName = packet.getClass().getSimpleName();
-            LOGGER.info("[TrueRusherHackSpoofer] Receive: " + packetName);
-            
-            // БУКВАЛЬНО МОДИФИЦИРУЕМ ВСЕ ПОЛЯ КООРДИНАТ В ПАКЕТЕ
-            modifyPacketCoordinates(packet, true); // true = subtract offset
-            
-        } catch (Exception e) {
-            LOGGER.error("[TrueRusherHackSpoofer] Error in onPacketReceive: " + e.getMessage());
+    private static final class Hooks {
+        // EntityMixin adds ClientPlayerMarker to Entity only when the hooks were applied
+        static final boolean INSTALLED = ClientPlayerMarker.class.isAssignableFrom(Entity.class);
+    }
+
+    /**
+     * While connected in OFFSET mode the loaded world is moved to the new offset in place (OffsetResync);
+     * otherwise the new offset is published right away
+     * @return the requested state with the effective offset (getState() lags behind while re-syncing)
+     */
+    public static synchronized SpoofState setOffset(double x, double y, double z) {
+        SpoofState current = target;
+        // Chunk-aligned: rounded to whole chunks, Y = 0 (SpoofState.withOffset)
+        SpoofState next = current.withOffset(x, y, z, current.chunkAligned());
+        if (OffsetResync.schedule(current, next)) {
+            target = next; // state/sendState публикует OffsetResync
+        } else {
+            publish(next);
         }
+        LOGGER.info("[TrueRusherHackSpoofer] Offset set to: X=" + next.offsetX() + ", Y=" + next.offsetY() + ", Z=" + next.offsetZ());
+        return next;
     }
 
     /**
-     * EventPacket.Send - БУКВАЛЬНО МОДИФИЦИРУЕМ ПОЛЯ В ПАКЕТАХ
-     * "you change the outgoing coordinates with -n" где -n = +offset
+     * Chunk-aligned mode: X/Z offsets are rounded to the nearest multiple of 16, the Y offset
+     * is dropped, and the current offset is re-applied with the new rounding
+     * @throws IllegalStateException if offset zones are set,
+     *         or while connected in OFFSET mode - the loaded chunks cannot switch between shifted and untouched
      */
-    public static void onPacketSend(Object packet) {
-        if (currentMode == SpoofMode.VANILLA) {
+    public static synchronized void setChunkAligned(boolean aligned) {
+        SpoofState current = target;
+        if (aligned == current.chunkAligned()) {
             return;
         }
+        if (current.rewritesPackets() && OffsetResync.isConnected()) {
+            throw new IllegalStateException("Reconnect required: chunk alignment cannot change while connected in offset mode");
+        }
+        if (aligned && current.hasZones()) {
+            throw new IllegalStateException("Chunk-aligned offsets cannot be combined with offset zones");
+        }
+        publish(current.withOffset(current.offsetX(), current.offsetY(), current.offsetZ(), aligned));
+        LOGGER.info("[TrueRusherHackSpoofer] Chunk-aligned offset: " + aligned);
+    }
 
-        try {
-            String packetName = packet.getClass().getSimpleName();
-            LOGGER.info("[TrueRusherHackSpoofer] Send: " + packetName);
-            
-            // БУКВАЛЬНО МОДИФИЦИРУЕМ ВСЕ ПОЛЯ КООРДИНАТ В ПАКЕТЕ
-            modifyPacketCoordinates(packet, false); // false = add offset
-            
-        } catch (Exception e) {
-            LOGGER.error("[TrueRusherHackSpoofer] Error in onPacketSend: " + e.getMessage());
+    private static void publish(SpoofState next) {
+        SpoofState previous = state;
+        target = next;
+        state = next;
+        sendState = next;
+        fireStateChanged(previous, next);
+    }
+
+    /**
+     * Called by OffsetResync on the Netty event loop: every frame decoded after this uses the offset
+     * of this re-sync. Each queued re-sync switches only to its own state - a later offset is published
+     * by its own task, after the frames that still belong to this one. Never goes back to an older epoch
+     */
+    static synchronized void publishInbound(SpoofState next) {
+        SpoofState previous = state;
+        if (next.epoch() <= previous.epoch()) {
+            return; // a newer state was already published (mode change, reconnect)
         }
+        state = next;
+        fireStateChanged(previous, next);
     }
 
     /**
-     * КЛЮЧЕВОЙ МЕТОД: Буквально модифицируем все поля координат в пакете
-     * Это то что делает оригинальный RusherHack плагин
+     * Register a listener for mode/offset/zone changes of the published state
      */
-    private static void modifyPacketCoordinates(Object packet, boolean subtractOffset) {
-        Class<?> clazz = packet.getClass();
-        
-        // Получаем ВСЕ поля пакета
-        Field[] fields = getAllFields(clazz);
-        
-        for (Field field : fields) {
+    public static void addListener(SpoofStateListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    private static void fireStateChanged(SpoofState previous, SpoofState next) {
+        if (previous == next) {
+            return;
+        }
+        for (SpoofStateListener listener : LISTENERS) {
             try {
-                field.setAccessible(true);
-                
-                String fieldName = field.getName();
-                Class<?> fieldType = field.getType();
-                
-                // Модифицируем поля координат
-                if (isCoordinateField(fieldName, fieldType)) {
-                    modifyCoordinateField(packet, field, subtractOffset);
-                }
-                
+                listener.onStateChanged(previous, next);
             } catch (Exception e) {
-                // Игнорируем ошибки отдельных полей
+                LOGGER.error("[TrueRusherHackSpoofer] State listener failed: " + e.getMessage());
             }
         }
     }
 
     /**
-     * Получить все поля класса включая наследованные
+     * Called by OffsetResync on the client thread once the loaded world has been moved
      */
-    private static Field[] getAllFields(Class<?> clazz) {
-        java.util.List<Field> fields = new java.util.ArrayList<>();
-        
-        while (clazz != null) {
-            fields.addAll(java.util.Arrays.asList(clazz.getDeclaredFields()));
-            clazz = clazz.getSuperclass();
-        }
-        
-        return fields.toArray(new Field[0]);
+    static synchronized void publishSend() {
+        sendState = state;
     }
 
     /**
-     * Проверить является ли поле координатой
+     * Snapshot for client -> server packets
      */
-    private static boolean isCoordinateField(String fieldName, Class<?> fieldType) {
-        // Проверяем имена полей
-        String name = fieldName.toLowerCase();
-        boolean isCoordName = name.equals("x") || name.equals("y") || name.equals("z") ||
-                             name.contains("pos") || name.contains("coord") ||
-                             name.equals("dx") || name.equals("dy") || name.equals("dz");
-        
-        // Проверяем типы полей
-        boolean isCoordType = fieldType == double.class || fieldType == Double.class ||
-                             fieldType == float.class || fieldType == Float.class ||
-                             fieldType == int.class || fieldType == Integer.class ||
-                             fieldType == Vec3d.class || fieldType == BlockPos.class;
-        
-        return isCoordName && isCoordType;
+    static SpoofState getSendState() {
+        return sendState;
     }
 
     /**
-     * БУКВАЛЬНО МОДИФИЦИРУЕМ ПОЛЕ КООРДИНАТЫ
+     * Replace the offset zones; positions outside every zone keep the global offset.
+     * Zones only change displayed text (RENDER): in OFFSET mode every zone boundary would be a jump
+     * in client space, and the server would see the player or an entity crossing it teleport.
+     * @throws IllegalStateException in OFFSET mode, or while chunk-aligned:
+     *         a chunk and the blocks in it would get different offsets
      */
-    private static void modifyCoordinateField(Object packet, Field field, boolean subtractOffset) {
+    public static synchronized void setZones(List<OffsetZone> zones) {
+        if (zones.equals(target.zones().zones())) {
+            return;
+        }
+        if (!zones.isEmpty() && target.rewritesPackets()) {
+            throw new IllegalStateException("Offset zones are supported in render mode only");
+        }
+        if (!zones.isEmpty() && target.chunkAligned()) {
+            throw new IllegalStateException("Offset zones cannot be combined with chunk-aligned offsets");
+        }
+        publish(target.withZones(zones));
+        LOGGER.info("[TrueRusherHackSpoofer] Offset zones set: " + zones.size());
+    }
+
+    public static List<OffsetZone> getZones() {
+        return state.zones().zones();
+    }
+
+    public static boolean isChunkAligned() {
+        return state.chunkAligned();
+    }
+
+    static int alignToChunk(double offset) {
+        return (int) Math.round(offset / 16.0);
+    }
+
+    // ===== TRUE RUSHERHACK LOGIC =====
+    
+    /**
+     * EventPacket.Receive - БУКВАЛЬНО МОДИФИЦИРУЕМ ПОЛЯ В ПАКЕТАХ
+     * "you change the incoming coordinates with n" где n = -offset
+     */
+    public static void onPacketReceive(Object packet) {
+        SpoofState current = state;
+        if (!current.rewritesPackets()) {
+            return; // VANILLA и RENDER пакеты не трогают
+        }
+
+        // Относительные движения, скорости и пакеты без координат не трогаем вообще
+        PacketClassifier.PacketClass packetClass = PacketClassifier.classOf(packet.getClass());
+        if (packetClass != PacketClassifier.PacketClass.ABSOLUTE && packetClass != PacketClassifier.PacketClass.BUNDLE) {
+            return;
+        }
+
+        long start = System.nanoTime();
         try {
-            String fieldName = field.getName();
-            Class<?> fieldType = field.getType();
-            
-            // Определяем какой офсет использовать
-            double offset = getOffsetForField(fieldName);
-            if (offset == 0) return; // Не модифицируем если офсет 0
-            
-            if (fieldType == double.class || fieldType == Double.class) {
-                double value = field.getDouble(packet);
-                double newValue = subtractOffset ? value - offset : value + offset;
-                field.setDouble(packet, newValue);
-                
-                LOGGER.info("[TrueRusherHackSpoofer] " + fieldName + ": " + value + " → " + newValue);
-                
-            } else if (fieldType == float.class || fieldType == Float.class) {
-                float value = field.getFloat(packet);
-                float newValue = subtractOffset ? value - (float)offset : value + (float)offset;
-                field.setFloat(packet, newValue);
-                
-                LOGGER.info("[TrueRusherHackSpoofer] " + fieldName + ": " + value + " → " + newValue);
-                
-            } else if (fieldType == int.class || fieldType == Integer.class) {
-                int value = field.getInt(packet);
-                int newValue = subtractOffset ? value - (int)offset : value + (int)offset;
-                field.setInt(packet, newValue);
-                
-                LOGGER.info("[TrueRusherHackSpoofer] " + fieldName + ": " + value + " → " + newValue);
-                
-            } else if (fieldType == Vec3d.class) {
-                Vec3d value = (Vec3d) field.get(packet);
-                if (value != null) {
-                    Vec3d newValue = subtractOffset ?
-                        new Vec3d(value.x - offsetX, value.y - offsetY, value.z - offsetZ) :
-                        new Vec3d(value.x + offsetX, value.y + offsetY, value.z + offsetZ);
-                    field.set(packet, newValue);
-                    
-                    LOGGER.info("[TrueRusherHackSpoofer] " + fieldName + ": " + value + " → " + newValue);
-                }
-                
-            } else if (fieldType == BlockPos.class) {
-                BlockPos value = (BlockPos) field.get(packet);
-                if (value != null) {
-                    BlockPos newValue = subtractOffset ?
-                        new BlockPos(value.getX() - (int)offsetX, value.getY() - (int)offsetY, value.getZ() - (int)offsetZ) :
-                        new BlockPos(value.getX() + (int)offsetX, value.getY() + (int)offsetY, value.getZ() + (int)offsetZ);
-                    field.set(packet, newValue);
-                    
-                    LOGGER.info("[TrueRusherHackSpoofer] " + fieldName + ": " + value + " → " + newValue);
+            if (packetClass == PacketClassifier.PacketClass.BUNDLE) {
+                // Спавны сущностей + метаданные приходят группой: один проход, одно чтение состояния на весь bundle.
+                // ClientPlayNetworkHandler применяет вложенные пакеты напрямую, мимо ClientConnection
+                for (Object subPacket : ((BundlePacket<?>) packet).getPackets()) {
+                    if (PacketClassifier.isAbsolute(subPacket.getClass())) {
+                        receiveAbsolute(subPacket, current);
+                    }
                 }
+            } else {
+                receiveAbsolute(packet, current);
             }
             
         } catch (Exception e) {
-            // Игнорируем ошибки отдельных полей
+            LOGGER.error("[TrueRusherHackSpoofer] Error in onPacketReceive: " + e.getMessage());
+        } finally {
+            PerformanceMonitor.recordOperation("spoof.receive", System.nanoTime() - start);
         }
     }
 
+    private static void receiveAbsolute(Object packet, SpoofState current) {
+        // Чанки, свет и multi-block updates: только координаты чанка/секции, O(1) на пакет
+        if (current.chunkAligned() && PacketRewriterRegistry.rewriteChunk(packet, -current.chunkOffsetX(), -current.chunkOffsetZ())) {
+            return;
+        }
+
+        // Сэмплирование один раз на пакет: запись пакета и записи его полей идут вместе
+        int trace = PacketTrace.sample();
+        if (trace >= PacketTrace.LEVEL_PACKETS) {
+            PacketTrace.record(packet.getClass(), PacketTrace.RECEIVE, PacketTrace.NO_AXIS, Double.NaN, Double.NaN);
+        }
+
+        // БУКВАЛЬНО МОДИФИЦИРУЕМ ВСЕ ПОЛЯ КООРДИНАТ В ПАКЕТЕ (выбранным движком)
+        CoordinateTransforms.active().onReceive(packet, current, trace >= PacketTrace.LEVEL_FIELDS);
+    }
+
     /**
-     * Получить подходящий офсет для поля
+     * EventPacket.Send - БУКВАЛЬНО МОДИФИЦИРУЕМ ПОЛЯ В ПАКЕТАХ
+     * "you change the outgoing coordinates with -n" где -n = +offset
      */
-    private static double getOffsetForField(String fieldName) {
-        String name = fieldName.toLowerCase();
-        if (name.contains("x") || name.equals("dx")) return offsetX;
-        if (name.contains("y") || name.equals("dy")) return offsetY;
-        if (name.contains("z") || name.equals("dz")) return offsetZ;
-        return 0;
+    public static void onPacketSend(Object packet) {
+        SpoofState current = sendState;
+        if (!current.rewritesPackets()) {
+            return; // VANILLA и RENDER пакеты не трогают
+        }
+
+        if (!PacketClassifier.isAbsolute(packet.getClass())) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            int trace = PacketTrace.sample();
+            if (trace >= PacketTrace.LEVEL_PACKETS) {
+                PacketTrace.record(packet.getClass(), PacketTrace.SEND, PacketTrace.NO_AXIS, Double.NaN, Double.NaN);
+            }
+            
+            // БУКВАЛЬНО МОДИФИЦИРУЕМ ВСЕ ПОЛЯ КООРДИНАТ В ПАКЕТЕ (выбранным движком)
+            CoordinateTransforms.active().onSend(packet, current, trace >= PacketTrace.LEVEL_FIELDS);
+            
+        } catch (Exception e) {
+            LOGGER.error("[TrueRusherHackSpoofer] Error in onPacketSend: " + e.getMessage());
+        } finally {
+            PerformanceMonitor.recordOperation("spoof.send", System.nanoTime() - start);
+        }
     }
 
     // ===== UI SPOOFING =====
     
     public static double getSpoofedX(double realX) {
-        if (currentMode == SpoofMode.OFFSET) {
-            return realX - offsetX; // Клиент видит смещённые координаты
-        }
-        return realX;
+        return state.spoofX(realX); // Клиент видит смещённые координаты
     }
 
     public static double getSpoofedY(double realY) {
-        if (currentMode == SpoofMode.OFFSET) {
-            return realY - offsetY;
-        }
-        return realY;
+        return state.spoofY(realY);
     }
 
     public static double getSpoofedZ(double realZ) {
-        if (currentMode == SpoofMode.OFFSET) {
-            return realZ - offsetZ;
-        }
-        return realZ;
+        return state.spoofZ(realZ);
     }
 
     public static Vec3d getSpoofedPosition(Vec3d realPos) {
-        if (currentMode == SpoofMode.OFFSET) {
-            return new Vec3d(
-                realPos.x - offsetX,
-                realPos.y - offsetY,
-                realPos.z - offsetZ
-            );
-        }
-        return realPos;
+        return state.spoof(realPos);
     }
 
     // ===== GETTERS =====
     
     public static String getModeString() {
-        return currentMode.name().toLowerCase();
+        return state.mode().name().toLowerCase();
     }
 
-    public static double getOffsetX() { return offsetX; }
-    public static double getOffsetY() { return offsetY; }
-    public static double getOffsetZ() { return offsetZ; }
+    public static double getOffsetX() { return state.offsetX(); }
+    public static double getOffsetY() { return state.offsetY(); }
+    public static double getOffsetZ() { return state.offsetZ(); }
 }
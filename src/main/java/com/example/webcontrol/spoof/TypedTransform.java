@@ -0,0 +1,30 @@
+package com.example.webcontrol.spoof;
+
+/**
+ * Typed engine: mixin accessors through PacketRewriterRegistry.
+ * Only the registered packet types are touched and Y is never modified,
+ * which is the behaviour of the RusherHack streamer mode.
+ * No field trace records: the rewriters are single-purpose and only the packet record is kept.
+ */
+final class TypedTransform implements CoordinateTransform {
+
+    @Override
+    public String name() {
+        return "typed";
+    }
+
+    @Override
+    public boolean rewritesEntities() {
+        return false; // only block updates and own movement are registered
+    }
+
+    @Override
+    public void onReceive(Object packet, SpoofState state, boolean traceFields) {
+        PacketRewriterRegistry.rewrite(packet, state, -1);
+    }
+
+    @Override
+    public void onSend(Object packet, SpoofState state, boolean traceFields) {
+        PacketRewriterRegistry.rewrite(packet, state, 1);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.webcontrol.spoof;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Immutable 2D lookup from an X/Z position to the SpoofState of the zone that contains it.
+ *
+ * Slab decomposition: the distinct zone X bounds split the plane into slabs, and every slab keeps
+ * its own sorted Z bounds with the winning zone per cell. A lookup is two binary searches, O(log n),
+ * with no allocation, so it can run for every rewritten packet and every HUD frame.
+ * Overlapping zones are resolved once at build time: the zone listed first wins.
+ *
+ * Bounds are real (server-space) coordinates: zones are RENDER-only, where the client world is never
+ * moved. Each zone resolves to a prebuilt SpoofState with that zone's offsets, so callers keep working
+ * on a plain snapshot.
+ */
+public final class ZoneIndex {
+    static final ZoneIndex EMPTY = new ZoneIndex(List.of(), new Slabs(new double[0], new double[0][], new SpoofState[0][]));
+
+    private final List<OffsetZone> zones;
+    private final Slabs slabs;
+
+    private ZoneIndex(List<OffsetZone> zones, Slabs slabs) {
+        this.zones = zones;
+        this.slabs = slabs;
+    }
+
+    public List<OffsetZone> zones() {
+        return zones;
+    }
+
+    public boolean isEmpty() {
+        return zones.isEmpty();
+    }
+
+    /**
+     * @return zone state for a real position, null outside every zone
+     */
+    SpoofState resolve(double x, double z) {
+        return slabs.lookup(x, z);
+    }
+
+    /**
+     * Build the index for the given zones; the per-zone states share mode, alignment and epoch
+     */
+    static ZoneIndex build(List<OffsetZone> zones, TrueRusherHackSpoofer.SpoofMode mode, boolean chunkAligned, long epoch) {
+        if (zones.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<OffsetZone> copy = List.copyOf(zones);
+        SpoofState[] states = new SpoofState[copy.size()];
+        double[][] bounds = new double[copy.size()][];
+        for (int i = 0; i < states.length; i++) {
+            OffsetZone zone = copy.get(i);
+            double offsetX = zone.offsetX();
+            double offsetY = zone.offsetY();
+            double offsetZ = zone.offsetZ();
+            if (chunkAligned) {
+                // Same rule as SpoofState.withOffset: whole chunks, no vertical shift
+                offsetX = TrueRusherHackSpoofer.alignToChunk(offsetX) << 4;
+                offsetY = 0;
+                offsetZ = TrueRusherHackSpoofer.alignToChunk(offsetZ) << 4;
+            }
+            states[i] = new SpoofState(mode, offsetX, offsetY, offsetZ, chunkAligned, epoch, EMPTY);
+            bounds[i] = new double[] { zone.minX(), zone.minZ(), zone.maxX(), zone.maxZ() };
+        }
+        return new ZoneIndex(copy, Slabs.build(bounds, states));
+    }
+
+    ZoneIndex rebuild(TrueRusherHackSpoofer.SpoofMode mode, boolean chunkAligned, long epoch) {
+        return build(zones, mode, chunkAligned, epoch);
+    }
+
+    private record Slabs(double[] xs, double[][] zs, SpoofState[][] cells) {
+
+        /**
+         * @param bounds per zone {minX, minZ, maxX, maxZ}, in priority order
+         */
+        static Slabs build(double[][] bounds, SpoofState[] states) {
+            TreeSet<Double> xSet = new TreeSet<>();
+            for (double[] b : bounds) {
+                xSet.add(b[0]);
+                xSet.add(b[2]);
+            }
+            double[] xs = xSet.stream().mapToDouble(Double::doubleValue).toArray();
+            int slabCount = Math.max(0, xs.length - 1);
+            double[][] zs = new double[slabCount][];
+            SpoofState[][] cells = new SpoofState[slabCount][];
+
+            for (int slab = 0; slab < slabCount; slab++) {
+                double left = xs[slab];
+                double right = xs[slab + 1];
+
+                TreeSet<Double> zSet = new TreeSet<>();
+                List<Integer> covering = new ArrayList<>();
+                for (int i = 0; i < bounds.length; i++) {
+                    if (bounds[i][0] <= left && bounds[i][2] >= right) {
+                        covering.add(i);
+                        zSet.add(bounds[i][1]);
+                        zSet.add(bounds[i][3]);
+                    }
+                }
+
+                double[] slabZs = zSet.stream().mapToDouble(Double::doubleValue).toArray();
+                SpoofState[] slabCells = new SpoofState[Math.max(0, slabZs.length - 1)];
+                for (int cell = 0; cell < slabCells.length; cell++) {
+                    for (int i : covering) {
+                        if (bounds[i][1] <= slabZs[cell] && bounds[i][3] >= slabZs[cell + 1]) {
+                            slabCells[cell] = states[i]; // first listed zone wins
+                            break;
+                        }
+                    }
+                }
+                zs[slab] = slabZs;
+                cells[slab] = slabCells;
+            }
+            return new Slabs(xs, zs, cells);
+        }
+
+        SpoofState lookup(double x, double z) {
+            int slab = interval(xs, x);
+            if (slab < 0) {
+                return null;
+            }
+            int cell = interval(zs[slab], z);
+            return cell < 0 ? null : cells[slab][cell];
+        }
+
+        /**
+         * Index i with bounds[i] <= value < bounds[i + 1], -1 if outside
+         */
+        private static int interval(double[] bounds, double value) {
+            int index = Arrays.binarySearch(bounds, value);
+            if (index < 0) {
+                index = -index - 2; // insertion point - 1
+            }
+            return index >= 0 && index < bounds.length - 1 ? index : -1;
+        }
+    }
+}
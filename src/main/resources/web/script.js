@@ -914,30 +914,58 @@ async function loadSpoofStatus() {
 
 // Status Check
 function startStatusCheck() {
-    // Check connection status every 5 seconds
+    // Check connection status every 5 seconds (skipped while the stats stream is open)
     setInterval(checkConnectionStatus, 5000);
     checkConnectionStatus(); // Initial check
 }
 
 // Player Stats Auto-Update
-let statsUpdateInterval;
+// Server-Sent Events from /api/stream push a snapshot every client tick;
+// browsers without EventSource fall back to polling /api/stats
+let statsStream = null;
+let statsUpdateInterval = null;
+
+function isStatsAutoUpdateRunning() {
+    return statsStream !== null || statsUpdateInterval !== null;
+}
+
+function isStatsStreamOpen() {
+    return statsStream !== null && statsStream.readyState === EventSource.OPEN;
+}
 
 function startStatsAutoUpdate() {
-    // Clear any existing interval
-    if (statsUpdateInterval) {
-        clearInterval(statsUpdateInterval);
+    stopStatsAutoUpdate();
+
+    if (window.EventSource) {
+        statsStream = new EventSource('/api/stream');
+        statsStream.onopen = () => updateConnectionStatus(true);
+        statsStream.onmessage = (event) => {
+            try {
+                renderGameStats(JSON.parse(event.data));
+            } catch (error) {
+                console.error('Invalid stats frame:', error);
+            }
+        };
+        // EventSource reconnects by itself, only reflect the state
+        statsStream.onerror = () => updateConnectionStatus(false);
+        console.log('Player stats stream started (/api/stream)');
+    } else {
+        // Polling fallback - every 100ms (10 times per second)
+        statsUpdateInterval = setInterval(() => {
+            loadGameStats();
+        }, 100);
+        console.log('Player stats auto-update started (every 100ms - real-time)');
     }
 
-    // Start new interval for maximum speed - every 100ms (10 times per second)
-    statsUpdateInterval = setInterval(() => {
-        loadGameStats();
-    }, 100);
-
-    console.log('Player stats auto-update started (every 100ms - real-time)');
     updateAutoUpdateButton(true);
 }
 
 function stopStatsAutoUpdate() {
+    if (statsStream) {
+        statsStream.close();
+        statsStream = null;
+        console.log('Player stats stream stopped');
+    }
     if (statsUpdateInterval) {
         clearInterval(statsUpdateInterval);
         statsUpdateInterval = null;
@@ -947,7 +975,7 @@ function stopStatsAutoUpdate() {
 
 // Toggle auto-update on/off
 function handleToggleStatsAutoUpdate() {
-    if (statsUpdateInterval) {
+    if (isStatsAutoUpdateRunning()) {
         // Currently running, stop it
         stopStatsAutoUpdate();
         updateAutoUpdateButton(false);
@@ -956,7 +984,7 @@ function handleToggleStatsAutoUpdate() {
         // Currently stopped, start it
         startStatsAutoUpdate();
         updateAutoUpdateButton(true);
-        showToast('Player stats real-time update enabled (10x per second)', 'success');
+        showToast('Player stats real-time update enabled', 'success');
     }
 }
 
@@ -1107,44 +1135,54 @@ function setupLoadGameStatsOverride() {
 async function loadGameStats() {
     try {
         const response = await fetch('/api/stats', { method: 'POST' });
-        const stats = await response.json();
+        renderGameStats(await response.json());
+    } catch (error) {
+        console.error('Failed to load game stats:', error);
+        renderStatsUnavailable();
+    }
+}
 
-        // Update position - respect coordinate visibility and format coordinates
-        if (elements.playerPosition) {
-            if (coordsHidden) {
-                elements.playerPosition.textContent = '***HIDDEN***';
-            } else {
-                const formattedPosition = formatCoordinates(stats.position || 'Unknown');
-                elements.playerPosition.textContent = formattedPosition;
-            }
+// Shared by polling and the stats stream
+function renderGameStats(stats) {
+    // Update position - respect coordinate visibility and format coordinates
+    if (elements.playerPosition) {
+        if (coordsHidden) {
+            elements.playerPosition.textContent = '***HIDDEN***';
+        } else {
+            const formattedPosition = formatCoordinates(stats.position || 'Unknown');
+            elements.playerPosition.textContent = formattedPosition;
         }
+    }
 
-        // Always update non-coordinate data
-        if (elements.playerBiome) {
-            elements.playerBiome.textContent = stats.biome || 'Unknown';
-        }
+    // Always update non-coordinate data
+    if (elements.playerBiome) {
+        elements.playerBiome.textContent = stats.biome || 'Unknown';
+    }
 
-        if (elements.gameTime) {
-            elements.gameTime.textContent = stats.time || 'Unknown';
-        }
+    if (elements.gameTime) {
+        elements.gameTime.textContent = stats.time || 'Unknown';
+    }
 
-        if (elements.gameFPS) {
-            elements.gameFPS.textContent = stats.fps || 'Unknown';
-        }
-    } catch (error) {
-        console.error('Failed to load game stats:', error);
+    if (elements.gameFPS) {
+        elements.gameFPS.textContent = stats.fps || 'Unknown';
+    }
+}
 
-        // Set fallback values
-        if (elements.playerPosition) {
-            elements.playerPosition.textContent = coordsHidden ? '***HIDDEN***' : 'Not available';
-        }
-        if (elements.playerBiome) elements.playerBiome.textContent = 'Not available';
-        if (elements.gameTime) elements.gameTime.textContent = 'Not available';
-        if (elements.gameFPS) elements.gameFPS.textContent = 'Not available';
+function renderStatsUnavailable() {
+    // Set fallback values
+    if (elements.playerPosition) {
+        elements.playerPosition.textContent = coordsHidden ? '***HIDDEN***' : 'Not available';
     }
+    if (elements.playerBiome) elements.playerBiome.textContent = 'Not available';
+    if (elements.gameTime) elements.gameTime.textContent = 'Not available';
+    if (elements.gameFPS) elements.gameFPS.textContent = 'Not available';
 }
 
 async function checkConnectionStatus() {
+    if (isStatsStreamOpen()) {
+        updateConnectionStatus(true); // the open stream already proves the connection
+        return;
+    }
     try {
         const response = await fetch('/api/status', { 
             method: 'GET',
@@ -0,0 +1,120 @@
+package com.example.webcontrol.gui;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CoordinateFormatter must print exactly what the JDK formatters it replaced print:
+ * String.format(Locale.ROOT, "%.Nf") and DecimalFormat("#,###.###") with Locale.ROOT symbols.
+ * The risky parts are the tie guard (values whose scaled fraction is close to .5), the sign of
+ * negatives that round to zero and the fallback above FAST_PATH_LIMIT.
+ */
+class CoordinateFormatterTest {
+    private static final int RANDOM_VALUES = 200_000;
+
+    private static final double[] SPECIAL_VALUES = {
+        0.0, -0.0, 1e-9, -1e-9, 0.004, -0.004, 0.005, -0.005, 0.0049999, -0.0049999, 0.0005, -0.0005,
+        -0.0004, -0.0006, -0.4, -0.5, -0.6, 0.5, 1.5, 2.5, 999.9995, -999.9995, 1234567.125, -1234567.125,
+        29_999_999.5, -29_999_999.5, 999_999_999.999, 1e9, -1e9, 1e9 + 0.5, 1.5e12, -3e15, 1e20, -1e300,
+        Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE,
+        Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+    };
+
+    @Test
+    void fixedMatchesStringFormatForRandomValues() {
+        Random random = new Random(42);
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            // Overworld range and small values around the origin
+            double value = i % 2 == 0 ? (random.nextDouble() - 0.5) * 60_000_000.0 : (random.nextDouble() - 0.5) * 200.0;
+            assertFixedForAllDecimals(value);
+        }
+    }
+
+    @Test
+    void groupedMatchesDecimalFormatForRandomValues() {
+        Random random = new Random(7);
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            double value = i % 2 == 0 ? (random.nextDouble() - 0.5) * 60_000_000.0 : (random.nextDouble() - 0.5) * 200.0;
+            assertGroupedForAllDecimals(value);
+        }
+    }
+
+    @Test
+    void nearTiesMatchJdk() {
+        Random random = new Random(1234);
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            int decimals = 1 + random.nextInt(3);
+            double scale = Math.pow(10, decimals);
+            long whole = random.nextLong(60_000_000L * (long) scale) - 30_000_000L * (long) scale;
+            // Exactly on, a few ulps and a little more or less than .5 of the last printed digit
+            double tie = (whole + 0.5) / scale;
+            double value = switch (i % 4) {
+                case 0 -> tie;
+                case 1 -> tie + (random.nextInt(9) - 4) * Math.ulp(tie);
+                case 2 -> tie + (random.nextDouble() - 0.5) * 2e-3 / scale;
+                default -> tie + (random.nextDouble() - 0.5) * 2e-2 / scale;
+            };
+            assertFixed(value, decimals);
+            assertGrouped(value, decimals);
+        }
+    }
+
+    @Test
+    void negativesNearZeroKeepTheJdkSign() {
+        for (int i = 0; i <= 10_000; i++) {
+            double value = -i * 1e-7;
+            assertFixedForAllDecimals(value);
+            assertGroupedForAllDecimals(value);
+        }
+    }
+
+    @Test
+    void specialValuesMatchJdk() {
+        for (double value : SPECIAL_VALUES) {
+            assertFixedForAllDecimals(value);
+            assertGroupedForAllDecimals(value);
+        }
+    }
+
+    @Test
+    void valuesAboveFastPathLimitMatchJdk() {
+        Random random = new Random(99);
+        for (int i = 0; i < 10_000; i++) {
+            double value = (random.nextBoolean() ? 1 : -1) * 1e9 * Math.pow(10, random.nextDouble() * 9);
+            assertFixedForAllDecimals(value);
+            assertGroupedForAllDecimals(value);
+        }
+    }
+
+    private static void assertFixedForAllDecimals(double value) {
+        for (int decimals = 0; decimals <= 3; decimals++) {
+            assertFixed(value, decimals);
+        }
+    }
+
+    private static void assertGroupedForAllDecimals(double value) {
+        for (int decimals = 0; decimals <= 3; decimals++) {
+            assertGrouped(value, decimals);
+        }
+    }
+
+    private static void assertFixed(double value, int decimals) {
+        String expected = String.format(Locale.ROOT, "%." + decimals + "f", value);
+        String actual = CoordinateFormatter.appendFixed(new StringBuilder(), value, decimals).toString();
+        assertEquals(expected, actual, () -> "appendFixed(" + value + ", " + decimals + ")");
+    }
+
+    private static void assertGrouped(double value, int decimals) {
+        DecimalFormat format = new DecimalFormat("#,###.###", DecimalFormatSymbols.getInstance(Locale.ROOT));
+        format.setMaximumFractionDigits(decimals);
+        String expected = format.format(value);
+        String actual = CoordinateFormatter.appendGrouped(new StringBuilder(), value, decimals).toString();
+        assertEquals(expected, actual, () -> "appendGrouped(" + value + ", " + decimals + ")");
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.webcontrol.performance;
+
+import com.example.webcontrol.gui.CoordinateFormatter;
+
+import java.lang.management.ManagementFactory;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Microbenchmark: CoordinateFormatter vs String.format / DecimalFormat.
+ * Lives in the test sources so it never ships in the mod jar; standalone (no Minecraft classes,
+ * not a JUnit test), run from the compiled classes after ./gradlew testClasses:
+ *
+ *   java -cp build/classes/java/main:build/classes/java/test com.example.webcontrol.performance.CoordinateFormatBenchmark
+ *
+ * Prints ns per formatted value and bytes allocated per value for each variant.
+ */
+public final class CoordinateFormatBenchmark {
+    private static final int VALUES = 4096;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 500;
+
+    private static volatile int sink; // keeps the JIT from dropping the work
+
+    private CoordinateFormatBenchmark() {}
+
+    private interface Variant {
+        int run(double[] values);
+    }
+
+    public static void main(String[] args) {
+        // Overworld-range coordinates, like the HUD sees them
+        Random random = new Random(42);
+        double[] values = new double[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = (random.nextDouble() - 0.5) * 60_000_000.0;
+        }
+
+        DecimalFormat decimalFormat = new DecimalFormat("#,###.###", DecimalFormatSymbols.getInstance(Locale.ROOT));
+        StringBuilder sb = new StringBuilder(64);
+
+        measure("String.format(%.2f)", values, v -> {
+            int length = 0;
+            for (double value : v) {
+                length += String.format("%.2f", value).length();
+            }
+            return length;
+        });
+        measure("CoordinateFormatter.appendFixed(2)", values, v -> {
+            int length = 0;
+            for (double value : v) {
+                sb.setLength(0);
+                length += CoordinateFormatter.appendFixed(sb, value, 2).length();
+            }
+            return length;
+        });
+        measure("DecimalFormat(#,###.###)", values, v -> {
+            int length = 0;
+            for (double value : v) {
+                length += decimalFormat.format(value).length();
+            }
+            return length;
+        });
+        measure("CoordinateFormatter.appendGrouped(3)", values, v -> {
+            int length = 0;
+            for (double value : v) {
+                sb.setLength(0);
+                length += CoordinateFormatter.appendGrouped(sb, value, 3).length();
+            }
+            return length;
+        });
+    }
+
+    private static void measure(String name, double[] values, Variant variant) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += variant.run(values);
+        }
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += variant.run(values);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        long operations = (long) MEASURED_ROUNDS * values.length;
+        System.out.printf(Locale.ROOT, "%-40s %8.1f ns/op %8.1f B/op%n",
+            name, (double) elapsed / operations, allocated < 0 ? Double.NaN : (double) allocated / operations);
+    }
+
+    /**
+     * @return bytes allocated by this thread so far, -1 if the JVM does not report it
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
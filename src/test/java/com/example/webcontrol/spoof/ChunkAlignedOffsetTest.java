@@ -0,0 +1,107 @@
+package com.example.webcontrol.spoof;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.packet.s2c.play.BlockUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.ChunkDataS2CPacket;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chunk-aligned mode: chunk packets move by whole chunk columns, so a block update must end up
+ * at the same place inside the rewritten chunk it belongs to - same local X/Z, same height.
+ */
+class ChunkAlignedOffsetTest {
+    private static final BlockPos REAL_POS = new BlockPos(1234, 70, -567);
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    @Test
+    void alignedOffsetIsWholeChunksWithoutY() {
+        SpoofState state = alignedState(100, 64, -250);
+
+        assertEquals(96, state.offsetX());
+        assertEquals(0, state.offsetY());
+        assertEquals(-256, state.offsetZ());
+    }
+
+    @Test
+    void alignedZoneOffsetIsWholeChunksWithoutY() {
+        SpoofState state = alignedState(0, 0, 0)
+            .withZones(List.of(new OffsetZone("base", 1000, -1000, 2000, 0, 40, 30, -20)));
+        SpoofState zone = state.at(REAL_POS.getX(), REAL_POS.getZ());
+
+        assertEquals(48, zone.offsetX());
+        assertEquals(0, zone.offsetY());
+        assertEquals(-16, zone.offsetZ());
+    }
+
+    @Test
+    void reflectiveBlockUpdateLinesUpWithChunkData() {
+        assertLinesUp(new ReflectiveTransform());
+    }
+
+    @Test
+    void typedBlockUpdateLinesUpWithChunkData() {
+        assertLinesUp(new TypedTransform());
+    }
+
+    private static void assertLinesUp(CoordinateTransform engine) {
+        SpoofState state = alignedState(100, 64, -250);
+        BlockUpdateS2CPacket blockUpdate = new BlockUpdateS2CPacket(REAL_POS, Blocks.STONE.getDefaultState());
+        ChunkDataS2CPacket chunkData = emptyChunk(REAL_POS.getX() >> 4, REAL_POS.getZ() >> 4);
+
+        // Same path as TrueRusherHackSpoofer.receiveAbsolute
+        assertTrue(PacketRewriterRegistry.rewriteChunk(chunkData, -state.chunkOffsetX(), -state.chunkOffsetZ()));
+        engine.onReceive(blockUpdate, state, false);
+
+        BlockPos pos = blockUpdate.getPos();
+        assertEquals(chunkData.getChunkX(), pos.getX() >> 4, "chunk X");
+        assertEquals(chunkData.getChunkZ(), pos.getZ() >> 4, "chunk Z");
+        assertEquals(REAL_POS.getX() & 15, pos.getX() & 15, "local X");
+        assertEquals(REAL_POS.getZ() & 15, pos.getZ() & 15, "local Z");
+        assertEquals(REAL_POS.getY(), pos.getY(), "height");
+    }
+
+    private static SpoofState alignedState(double x, double y, double z) {
+        return SpoofState.INITIAL.withMode(TrueRusherHackSpoofer.SpoofMode.OFFSET).withOffset(x, y, z, true);
+    }
+
+    /**
+     * Decoded like a real packet: no sections, no block entities, no light
+     */
+    private static ChunkDataS2CPacket emptyChunk(int chunkX, int chunkZ) {
+        RegistryByteBuf buf = new RegistryByteBuf(Unpooled.buffer(), DynamicRegistryManager.EMPTY);
+        try {
+            buf.writeInt(chunkX);
+            buf.writeInt(chunkZ);
+            buf.writeNbt(new NbtCompound()); // heightmaps
+            buf.writeVarInt(0);              // section data length
+            buf.writeVarInt(0);              // block entities
+            for (int i = 0; i < 4; i++) {
+                buf.writeBitSet(new BitSet()); // sky/block light masks
+            }
+            buf.writeVarInt(0);              // sky light arrays
+            buf.writeVarInt(0);              // block light arrays
+            return ChunkDataS2CPacket.CODEC.decode(buf);
+        } finally {
+            buf.release();
+        }
+    }
+}